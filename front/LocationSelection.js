@@ -14,25 +14,54 @@ const LocationSelection = () => {
         fetchLocations();
     }, []);
 
+    const toLocation = (loc) => {
+        if (loc && (loc.id || loc.locationId)) {
+            return {
+                id: loc.id || loc.locationId,
+                name: loc.name,
+                address: loc.address || 'Адрес не указан',
+                distanceMeters: loc.distanceMeters
+            };
+        }
+        console.warn('Invalid location format:', loc);
+        return null;
+    };
+
+    const currentPosition = () => new Promise((resolve) => {
+        if (!navigator.geolocation) {
+            resolve(null);
+            return;
+        }
+        navigator.geolocation.getCurrentPosition(
+            position => resolve(position.coords),
+            () => resolve(null),
+            { timeout: 3000, maximumAge: 600000 }
+        );
+    });
+
     const fetchLocations = async () => {
         setLoading(true);
         setError('');
         try {
-            const response = await api.get('/locations');
-            console.log('Fetched locations:', response.data);
-            const formattedLocations = Array.isArray(response.data)
-                ? response.data.map(loc => {
-                    if (loc && (loc.id || loc.locationId)) {
-                        return {
-                            id: loc.id || loc.locationId,
-                            name: loc.name,
-                            address: loc.address || 'Адрес не указан'
-                        };
-                    }
-                    console.warn('Invalid location format:', loc);
-                    return null;
-                }).filter(loc => loc !== null)
-                : [];
+            const coords = await currentPosition();
+            const [nearest, all] = await Promise.all([
+                coords
+                    ? api.get('/locations/nearest', {
+                        params: { lat: coords.latitude, lon: coords.longitude, k: 12 }
+                    }).then(response => response.data, () => [])
+                    : Promise.resolve([]),
+                api.get('/locations').then(response => response.data)
+            ]);
+            // Nearest shops first; shops without coordinates or beyond the nearest 12
+            // still follow from the full list.
+            const asList = value => (Array.isArray(value) ? value : []);
+            const nearestIds = new Set(asList(nearest).map(loc => loc.locationId));
+            const data = [
+                ...asList(nearest),
+                ...asList(all).filter(loc => !nearestIds.has(loc.id || loc.locationId))
+            ];
+            console.log('Fetched locations:', data);
+            const formattedLocations = data.map(toLocation).filter(loc => loc !== null);
             if (formattedLocations.length === 0) {
                 setError('Локации не найдены.');
             }
@@ -66,6 +95,11 @@ const LocationSelection = () => {
                                 <Card.Body>
                                     <Card.Title>{location.name}</Card.Title>
                                     <Card.Text>{location.address}</Card.Text>
+                                    {location.distanceMeters !== undefined && (
+                                        <Card.Text className="text-muted">
+                                            {(location.distanceMeters / 1000).toFixed(1)} км
+                                        </Card.Text>
+                                    )}
                                     <Button
                                         variant="primary"
                                         className="btn-custom"
@@ -0,0 +1,87 @@
+package com.example.barbershop.cache;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+/**
+ * One {@link Cache} shared by all benchmark threads: uncontended lookups, lookups from
+ * eight threads at once, and a read-mostly mix of seven readers to one writer. The keys
+ * follow the services' naming ({@code all_barbers}, {@code barber_<id>}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheBenchmark {
+
+    @Param({"16"})
+    private int keyCount;
+
+    private Cache cache;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).setLevel(Level.WARN);
+        cache = new Cache();
+        keys = new String[keyCount];
+        keys[0] = "all_barbers";
+        for (int i = 1; i < keyCount; i++) {
+            keys[i] = "barber_" + i;
+        }
+        for (String key : keys) {
+            cache.put(key, key);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object getUncontended() {
+        return cache.get(nextKey());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object getContended() {
+        return cache.get(nextKey());
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(7)
+    public Object readMostlyGet() {
+        return cache.get(nextKey());
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public void readMostlyPut() {
+        String key = nextKey();
+        cache.put(key, key);
+    }
+
+    private String nextKey() {
+        return keys[ThreadLocalRandom.current().nextInt(keyCount)];
+    }
+}
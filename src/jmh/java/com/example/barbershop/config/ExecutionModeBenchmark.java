@@ -0,0 +1,97 @@
+package com.example.barbershop.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import com.example.barbershop.cache.Cache;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Serves one wave of {@code clients} concurrent requests, each doing a cache lookup and
+ * a blocking call standing in for JDBC, on a Tomcat-sized platform pool or on virtual
+ * threads. The virtual mode needs a Java 21 runtime:
+ * {@code mvn -Pbenchmark,java21 test-compile exec:exec -Djmh.includes=ExecutionMode}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"1000"})
+    private int clients;
+
+    @Param({"5"})
+    private int blockingMillis;
+
+    private ExecutorService platformPool;
+    private SimpleAsyncTaskExecutor virtualExecutor;
+    private Cache cache;
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).setLevel(Level.WARN);
+        cache = new Cache();
+        if ("virtual".equals(mode)) {
+            virtualExecutor = new SimpleAsyncTaskExecutor("bench-");
+            virtualExecutor.setVirtualThreads(true);
+        } else {
+            platformPool = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        }
+    }
+
+    @TearDown(org.openjdk.jmh.annotations.Level.Trial)
+    public void tearDown() {
+        if (platformPool != null) {
+            platformPool.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public void concurrentClients() {
+        CompletableFuture<?>[] requests = new CompletableFuture<?>[clients];
+        for (int i = 0; i < clients; i++) {
+            String key = "barber_" + (i % 16);
+            Runnable request = () -> handle(key);
+            requests[i] = platformPool != null
+                    ? CompletableFuture.runAsync(request, platformPool)
+                    : CompletableFuture.runAsync(request, virtualExecutor);
+        }
+        CompletableFuture.allOf(requests).join();
+    }
+
+    private void handle(String key) {
+        if (cache.get(key).isEmpty()) {
+            cache.put(key, key);
+        }
+        try {
+            Thread.sleep(blockingMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.barbershop.dto;
+
+import com.example.barbershop.config.OrderDtoJsonSerializer;
+import com.example.barbershop.model.Barber;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Time;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Serializes the {@code /barbers} and {@code /orders} payloads with a mapper configured like
+ * Spring Boot's. {@code perRequestWriter} mirrors Spring MVC's message converter, which
+ * builds an {@link ObjectWriter} for the declared type and streams through a fresh
+ * {@link JsonGenerator}; {@code sharedWriter} reuses a writer built once for the type;
+ * {@code asString} buffers the whole document first. {@code mapper} selects the stock
+ * bean serializers, the same plus Blackbird's generated property accessors, or the
+ * application's {@link OrderDtoJsonSerializer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+
+    private static final TypeReference<List<BarberDto>> BARBER_LIST = new TypeReference<>() {
+    };
+    private static final TypeReference<List<OrderDto>> ORDER_LIST = new TypeReference<>() {
+    };
+
+    @Param({"bean", "blackbird", "application"})
+    private String mapper;
+
+    @Param({"1000"})
+    private int barberCount;
+
+    @Param({"8"})
+    private int offeringsPerBarber;
+
+    @Param({"10000"})
+    private int orderCount;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter barberWriter;
+    private ObjectWriter orderWriter;
+    private List<BarberDto> barbers;
+    private List<OrderDto> orders;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 20);
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("blackbird".equals(mapper)) {
+            builder.modulesToInstall(new BlackbirdModule());
+        } else if ("application".equals(mapper)) {
+            builder.modulesToInstall(new SimpleModule("application")
+                    .addSerializer(OrderDto.class, new OrderDtoJsonSerializer()));
+        }
+        objectMapper = builder.build();
+        barberWriter = objectMapper.writerFor(BARBER_LIST);
+        orderWriter = objectMapper.writerFor(ORDER_LIST);
+
+        List<OfferingDto> offerings = new ArrayList<>();
+        for (long id = 1; id <= 40; id++) {
+            OfferingDto offering = new OfferingDto();
+            offering.setOfferingId(id);
+            offering.setName("Offering " + id);
+            offering.setPrice(500.0 + id * 50);
+            offering.setDuration(30);
+            offerings.add(offering);
+        }
+        barbers = new ArrayList<>(barberCount);
+        for (int i = 0; i < barberCount; i++) {
+            BarberDto barber = new BarberDto();
+            barber.setBarberId((long) i + 1);
+            barber.setName("Barber " + i);
+            barber.setAvailableDays(EnumSet.of(Barber.DayOfWeek.MONDAY,
+                    Barber.DayOfWeek.WEDNESDAY, Barber.DayOfWeek.FRIDAY));
+            barber.setStartTime(Time.valueOf(LocalTime.of(9, 0)));
+            barber.setEndTime(Time.valueOf(LocalTime.of(18, 0)));
+            barber.setLocationName("Location " + i % 10);
+            Set<OfferingDto> own = new HashSet<>();
+            for (int j = 0; j < offeringsPerBarber; j++) {
+                own.add(offerings.get((i + j) % offerings.size()));
+            }
+            barber.setOfferings(own);
+            barbers.add(barber);
+        }
+
+        orders = new ArrayList<>(orderCount);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < orderCount; i++) {
+            OrderDto order = new OrderDto();
+            order.setOrderId((long) i + 1);
+            order.setOrderDate(start.plusMinutes(30L * i));
+            order.setBarberId((long) i % barberCount + 1);
+            order.setOfferingId((long) i % offerings.size() + 1);
+            order.setLocationId((long) i % 10 + 1);
+            order.setUserId((long) i % 500 + 1);
+            orders.add(order);
+        }
+    }
+
+    @Benchmark
+    public int barbersPerRequestWriter() throws IOException {
+        return perRequestWriter(barbers, BARBER_LIST);
+    }
+
+    @Benchmark
+    public int barbersSharedWriter() throws IOException {
+        return sharedWriter(barberWriter, barbers);
+    }
+
+    @Benchmark
+    public int barbersAsString() throws IOException {
+        return objectMapper.writeValueAsString(barbers).length();
+    }
+
+    @Benchmark
+    public int ordersPerRequestWriter() throws IOException {
+        return perRequestWriter(orders, ORDER_LIST);
+    }
+
+    @Benchmark
+    public int ordersSharedWriter() throws IOException {
+        return sharedWriter(orderWriter, orders);
+    }
+
+    @Benchmark
+    public int ordersAsString() throws IOException {
+        return objectMapper.writeValueAsString(orders).length();
+    }
+
+    private int perRequestWriter(Object value, TypeReference<?> type) throws IOException {
+        out.reset();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out,
+                JsonEncoding.UTF8)) {
+            objectMapper.writer().forType(objectMapper.constructType(type))
+                    .writeValue(generator, value);
+        }
+        return out.size();
+    }
+
+    private int sharedWriter(ObjectWriter writer, Object value) throws IOException {
+        out.reset();
+        writer.writeValue(out, value);
+        return out.size();
+    }
+}
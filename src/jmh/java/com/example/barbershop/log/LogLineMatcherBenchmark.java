@@ -0,0 +1,91 @@
+package com.example.barbershop.log;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogLineMatcherBenchmark {
+
+    private static final String[] LEVELS = {"INFO ", "WARN ", "ERROR", "DEBUG"};
+
+    @Param({"10000"})
+    private int lineCount;
+
+    @Param({"ERROR"})
+    private String level;
+
+    private List<String> lines;
+    private ByteBuffer buffer;
+    private int[] lineStarts;
+    private LogLineMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        lines = new ArrayList<>(lineCount);
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < lineCount; i++) {
+            String line = String.format("2025-04-%02d 10:%02d:%02d.%03d %s "
+                            + "c.e.barbershop.log.LoggingAspect - Вход в метод контроллера: "
+                            + "BarberController.getBarberById(..) с аргументами: [%d]",
+                    1 + i % 28, i % 60, (i * 7) % 60, i % 1000, LEVELS[i % LEVELS.length], i);
+            lines.add(line);
+            content.append(line).append('\n');
+        }
+
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        lineStarts = new int[lineCount + 1];
+        int line = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                lineStarts[++line] = i + 1;
+            }
+        }
+        matcher = LogLineMatcher.of(level, null);
+    }
+
+    @Benchmark
+    public int regex() {
+        Pattern logPattern = Pattern.compile(
+                "^\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\.\\d{3} " + level + " ");
+        int matched = 0;
+        for (String line : lines) {
+            if (logPattern.matcher(line).find()) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int byteMatcher() {
+        int matched = 0;
+        for (int i = 0; i < lineCount; i++) {
+            if (matcher.matches(buffer, lineStarts[i], lineStarts[i + 1] - 1)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.barbershop.mapper;
+
+import com.example.barbershop.model.Barber;
+import com.example.barbershop.model.Location;
+import com.example.barbershop.model.Offering;
+import com.example.barbershop.model.Order;
+import com.example.barbershop.model.User;
+import java.sql.Time;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Maps a page of detached entities to DTOs the way the list endpoints do. Each barber
+ * carries {@code offeringsPerBarber} offerings and a location; each order references a
+ * barber, offering, location and user.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"100"})
+    private int barberCount;
+
+    @Param({"8"})
+    private int offeringsPerBarber;
+
+    @Param({"1000"})
+    private int orderCount;
+
+    private List<Barber> barbers;
+    private List<Order> orders;
+
+    @Setup
+    public void setUp() {
+        List<Offering> offerings = new ArrayList<>();
+        for (long id = 1; id <= 40; id++) {
+            Offering offering = new Offering();
+            offering.setOfferingId(id);
+            offering.setName("Offering " + id);
+            offering.setPrice(500.0 + id * 50);
+            offering.setDuration(30);
+            offerings.add(offering);
+        }
+        List<Location> locations = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            Location location = new Location();
+            location.setLocationId(id);
+            location.setName("Location " + id);
+            location.setAddress("Street " + id);
+            locations.add(location);
+        }
+
+        barbers = new ArrayList<>(barberCount);
+        for (int i = 0; i < barberCount; i++) {
+            Barber barber = new Barber();
+            barber.setBarberId((long) i + 1);
+            barber.setName("Barber " + i);
+            barber.setAvailableDays(EnumSet.of(Barber.DayOfWeek.MONDAY,
+                    Barber.DayOfWeek.WEDNESDAY, Barber.DayOfWeek.FRIDAY));
+            barber.setStartTime(Time.valueOf(LocalTime.of(9, 0)));
+            barber.setEndTime(Time.valueOf(LocalTime.of(18, 0)));
+            barber.setLocation(locations.get(i % locations.size()));
+            Set<Offering> own = new HashSet<>();
+            for (int j = 0; j < offeringsPerBarber; j++) {
+                own.add(offerings.get((i + j) % offerings.size()));
+            }
+            barber.setOfferings(own);
+            barbers.add(barber);
+        }
+
+        orders = new ArrayList<>(orderCount);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < orderCount; i++) {
+            User user = new User();
+            user.setUserId((long) i % 500 + 1);
+            Order order = new Order();
+            order.setOrderId((long) i + 1);
+            order.setOrderDate(start.plusMinutes(30L * i));
+            order.setBarber(barbers.get(i % barbers.size()));
+            order.setOffering(offerings.get(i % offerings.size()));
+            order.setLocation(locations.get(i % locations.size()));
+            order.setUser(user);
+            orders.add(order);
+        }
+    }
+
+    @Benchmark
+    public void barberToDto(Blackhole blackhole) {
+        for (Barber barber : barbers) {
+            blackhole.consume(BarberMapper.toDto(barber));
+        }
+    }
+
+    @Benchmark
+    public void barberToDtoShallow(Blackhole blackhole) {
+        for (Barber barber : barbers) {
+            blackhole.consume(BarberMapper.toDtoShallow(barber));
+        }
+    }
+
+    @Benchmark
+    public void orderToDto(Blackhole blackhole) {
+        for (Order order : orders) {
+            blackhole.consume(OrderMapper.toDto(order));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.barbershop.service;
+
+import com.example.barbershop.dto.AvailabilityDto;
+import com.example.barbershop.model.Barber;
+import com.example.barbershop.model.DayMask;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Slot generation behind {@code GET /barbers/{id}/availability} for a week, without the
+ * repository round trips. Schedules are {@code start-end} in hours; {@code bookedShare}
+ * of the week's slots are taken at random.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvailabilityBenchmark {
+
+    @Param({"9-18", "8-22"})
+    private String schedule;
+
+    @Param({"0.0", "0.5", "0.9"})
+    private double bookedShare;
+
+    private LocalDate today;
+    private LocalDateTime now;
+    private int workingDays;
+    private LocalTime start;
+    private LocalTime end;
+    private Set<LocalDateTime> booked;
+
+    @Setup
+    public void setUp() {
+        String[] hours = schedule.split("-");
+        start = LocalTime.of(Integer.parseInt(hours[0]), 0);
+        end = LocalTime.of(Integer.parseInt(hours[1]), 0);
+        workingDays = DayMask.of(EnumSet.complementOf(EnumSet.of(Barber.DayOfWeek.SUNDAY)));
+        today = LocalDate.of(2025, 3, 3);
+        now = today.atTime(11, 15);
+
+        Random random = new Random(42);
+        booked = new HashSet<>();
+        for (int day = 0; day < 7; day++) {
+            for (LocalTime slot = start; slot.isBefore(end);
+                 slot = slot.plusMinutes(BarberService.SLOT_DURATION_MINUTES)) {
+                if (random.nextDouble() < bookedShare) {
+                    booked.add(today.plusDays(day).atTime(slot));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public List<AvailabilityDto> week() {
+        return BarberService.availableSlots(today, now, workingDays, start, end, booked);
+    }
+}
@@ -0,0 +1,312 @@
+package com.example.barbershop.datagen;
+
+import com.example.barbershop.model.DayMask;
+import com.example.barbershop.service.BarberService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Generates a consistent dataset: every barber works at one location and offers a fixed
+ * set of offerings, and every order falls on one of its barber's working slots with an
+ * offering that barber provides. Barber, offering and user popularity follow
+ * {@link Zipf} distributions. Orders are split into one partition per thread, each with
+ * its own random stream and sink.
+ *
+ * <p>Straight into a database over JDBC (the schema must exist and be empty):
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec
+ *     -Dloadtest.main=com.example.barbershop.datagen.DataGenerator
+ *     -Dloadtest.args="url=jdbc:mysql://localhost:3306/barbersweb password=... orders=10000000"
+ * </pre>
+ * Or as tab-separated files plus a {@code load.sql} for {@code LOAD DATA LOCAL INFILE},
+ * the fastest way into MySQL: {@code mode=files dir=target/dataset}, then
+ * {@code cd target/dataset && mysql --local-infile=1 barbersweb < load.sql}.
+ */
+public final class DataGenerator {
+
+    private static final int DEFAULT_BATCH_SIZE = 5_000;
+
+    private final GeneratorConfig config;
+    private final Zipf barberPopularity;
+    private final Zipf userPopularity;
+    private final int[] workingDays;
+    private final LocalTime[] startTimes;
+    private final int[] slotCounts;
+    private final long[][] offeringsByBarber;
+
+    public DataGenerator(GeneratorConfig config) {
+        this.config = config;
+        Random random = new Random(config.getSeed());
+        barberPopularity = new Zipf(config.getBarbers(), config.getBarberSkew(), random);
+        userPopularity = new Zipf(config.getUsers(), config.getUserSkew(), random);
+        Zipf offeringPopularity = new Zipf(config.getOfferings(), config.getOfferingSkew(),
+                random);
+
+        int barbers = config.getBarbers();
+        workingDays = new int[barbers + 1];
+        startTimes = new LocalTime[barbers + 1];
+        slotCounts = new int[barbers + 1];
+        offeringsByBarber = new long[barbers + 1][];
+        for (int id = 1; id <= barbers; id++) {
+            int days = DayMask.ALL_DAYS & ~(1 << random.nextInt(7));
+            if (random.nextBoolean()) {
+                days &= ~(1 << random.nextInt(7));
+            }
+            workingDays[id] = days;
+            startTimes[id] = LocalTime.of(8 + random.nextInt(3), 0);
+            int hours = 8 + random.nextInt(4);
+            slotCounts[id] = hours * 60 / BarberService.SLOT_DURATION_MINUTES;
+            offeringsByBarber[id] = pickOfferings(offeringPopularity, random);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.parse(args);
+        String mode = settings.value("mode", "jdbc");
+        int batchSize = settings.intValue("batchSize", DEFAULT_BATCH_SIZE);
+        RowSink.Factory sinks;
+        Path directory = null;
+        if ("files".equals(mode)) {
+            directory = Path.of(settings.value("dir", "target/dataset"));
+            Files.createDirectories(directory);
+            sinks = TsvRowSink.factory(directory);
+        } else if ("jdbc".equals(mode)) {
+            String url = settings.value("url", "jdbc:mysql://localhost:3306/barbersweb");
+            if (url.startsWith("jdbc:mysql:") && !url.contains("rewriteBatchedStatements")) {
+                url += (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+            }
+            sinks = JdbcRowSink.factory(new DriverManagerDataSource(url,
+                    settings.value("user", "root"), settings.value("password", "")), batchSize);
+        } else {
+            throw new IllegalArgumentException("mode must be jdbc or files, got " + mode);
+        }
+        GeneratorConfig config = new GeneratorConfig(settings);
+        settings.requireConsumed();
+
+        long started = System.nanoTime();
+        long orders = new DataGenerator(config).generate(sinks);
+        if (directory != null) {
+            writeLoadScript(directory, config.getThreads());
+        }
+        System.out.printf("Generated %d barbers, %d users and %d orders in %d ms%n",
+                config.getBarbers(), config.getUsers(), orders,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public GeneratorConfig getConfig() {
+        return config;
+    }
+
+    public static long locationOf(GeneratorConfig config, long barberId) {
+        return (barberId - 1) % config.getLocations() + 1;
+    }
+
+    public static String locationName(long locationId) {
+        return "Location " + locationId;
+    }
+
+    public long[] offeringsOf(long barberId) {
+        return offeringsByBarber[(int) barberId];
+    }
+
+    /** A barber id drawn with the same popularity skew as the generated orders. */
+    public long pickBarber(double uniform) {
+        return barberPopularity.sample(uniform);
+    }
+
+    public long pickUser(double uniform) {
+        return userPopularity.sample(uniform);
+    }
+
+    /** Writes every table and returns the number of orders written. */
+    public long generate(RowSink.Factory sinks) throws IOException, InterruptedException {
+        writeLocations(sinks);
+        writeOfferings(sinks);
+        writeBarbers(sinks);
+        writeUsers(sinks);
+        return writeOrders(sinks);
+    }
+
+    private void writeLocations(RowSink.Factory sinks) throws IOException {
+        Random random = new Random(config.getSeed() + 1);
+        try (RowSink sink = sinks.open(Table.LOCATION, 0)) {
+            for (long id = 1; id <= config.getLocations(); id++) {
+                sink.add(id, locationName(id), "Street " + id,
+                        53.80 + random.nextDouble() * 0.2, 27.45 + random.nextDouble() * 0.25);
+            }
+        }
+    }
+
+    private void writeOfferings(RowSink.Factory sinks) throws IOException {
+        Random random = new Random(config.getSeed() + 2);
+        try (RowSink sink = sinks.open(Table.OFFERING, 0)) {
+            for (long id = 1; id <= config.getOfferings(); id++) {
+                sink.add(id, "Offering " + id, (double) (10 + random.nextInt(90)),
+                        BarberService.SLOT_DURATION_MINUTES);
+            }
+        }
+    }
+
+    private void writeBarbers(RowSink.Factory sinks) throws IOException {
+        try (RowSink barbers = sinks.open(Table.BARBER, 0)) {
+            for (long id = 1; id <= config.getBarbers(); id++) {
+                int index = (int) id;
+                LocalTime end = startTimes[index].plusMinutes(
+                        (long) slotCounts[index] * BarberService.SLOT_DURATION_MINUTES);
+                barbers.add(id, "Barber " + id, workingDays[index],
+                        Time.valueOf(startTimes[index]), Time.valueOf(end),
+                        locationOf(config, id));
+            }
+        }
+        // Sinks may use separate connections, so the join rows go in after the barbers.
+        try (RowSink offerings = sinks.open(Table.BARBER_OFFERING, 0)) {
+            for (long id = 1; id <= config.getBarbers(); id++) {
+                for (long offeringId : offeringsByBarber[(int) id]) {
+                    offerings.add(id, offeringId);
+                }
+            }
+        }
+    }
+
+    private void writeUsers(RowSink.Factory sinks) throws IOException {
+        try (RowSink sink = sinks.open(Table.USER, 0)) {
+            for (long id = 1; id <= config.getUsers(); id++) {
+                sink.add(id, "user" + id, "password" + id);
+            }
+        }
+    }
+
+    private long writeOrders(RowSink.Factory sinks) throws IOException, InterruptedException {
+        int threads = config.getThreads();
+        SplittableRandom root = new SplittableRandom(config.getSeed() + 3);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> partitions = new ArrayList<>();
+            for (int partition = 0; partition < threads; partition++) {
+                int index = partition;
+                long count = config.getOrders() / threads
+                        + (partition < config.getOrders() % threads ? 1 : 0);
+                SplittableRandom random = root.split();
+                partitions.add(executor.submit(() -> writeOrders(sinks, index, count, random)));
+            }
+            long written = 0;
+            for (Future<Long> partition : partitions) {
+                written += partition.get();
+            }
+            return written;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException unchecked) {
+                throw unchecked.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * {@code count} past orders over the history window; partition 0 also books
+     * {@code futureBookedShare} of every slot in the coming {@code bookingDays}.
+     */
+    private long writeOrders(RowSink.Factory sinks, int partition, long count,
+                             SplittableRandom random) {
+        LocalDate today = LocalDate.now();
+        long written = 0;
+        try (RowSink sink = sinks.open(Table.ORDERS, partition)) {
+            for (long i = 0; i < count; i++) {
+                int barberId = barberPopularity.sample(random.nextDouble());
+                LocalDate date = today.minusDays(1 + random.nextInt(config.getHistoryDays()));
+                while (!DayMask.contains(workingDays[barberId], date.getDayOfWeek())) {
+                    date = date.minusDays(1);
+                }
+                addOrder(sink, random, barberId, date, random.nextInt(slotCounts[barberId]));
+                written++;
+            }
+            if (partition == 0) {
+                for (int barberId = 1; barberId <= config.getBarbers(); barberId++) {
+                    for (int day = 0; day < config.getBookingDays(); day++) {
+                        LocalDate date = today.plusDays(day);
+                        if (!DayMask.contains(workingDays[barberId], date.getDayOfWeek())) {
+                            continue;
+                        }
+                        for (int slot = 0; slot < slotCounts[barberId]; slot++) {
+                            if (random.nextDouble() < config.getFutureBookedShare()) {
+                                addOrder(sink, random, barberId, date, slot);
+                                written++;
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return written;
+    }
+
+    private void addOrder(RowSink sink, SplittableRandom random, int barberId, LocalDate date,
+                          int slot) throws IOException {
+        long[] offerings = offeringsByBarber[barberId];
+        LocalTime time = startTimes[barberId].plusMinutes(
+                (long) slot * BarberService.SLOT_DURATION_MINUTES);
+        sink.add(Timestamp.valueOf(date.atTime(time)), barberId,
+                offerings[random.nextInt(offerings.length)], locationOf(config, barberId),
+                (long) userPopularity.sample(random.nextDouble()));
+    }
+
+    /** Distinct offerings, popular ones first; falls back to a scan once draws keep colliding. */
+    private long[] pickOfferings(Zipf popularity, Random random) {
+        int wanted = config.getOfferingsPerBarber();
+        boolean[] taken = new boolean[config.getOfferings() + 1];
+        long[] picked = new long[wanted];
+        int count = 0;
+        for (int attempt = 0; count < wanted && attempt < wanted * 8; attempt++) {
+            int id = popularity.sample(random.nextDouble());
+            if (!taken[id]) {
+                taken[id] = true;
+                picked[count++] = id;
+            }
+        }
+        for (int id = 1; count < wanted; id++) {
+            if (!taken[id]) {
+                taken[id] = true;
+                picked[count++] = id;
+            }
+        }
+        return picked;
+    }
+
+    private static void writeLoadScript(Path directory, int partitions) throws IOException {
+        StringBuilder script = new StringBuilder()
+                .append("SET foreign_key_checks = 0;\n")
+                .append("SET unique_checks = 0;\n");
+        for (Table table : Table.values()) {
+            int files = table == Table.ORDERS ? partitions : 1;
+            for (int partition = 0; partition < files; partition++) {
+                script.append("LOAD DATA LOCAL INFILE '")
+                        .append(TsvRowSink.fileName(table, partition))
+                        .append("' INTO TABLE ").append(table.getTableName()).append(' ')
+                        .append(table.columnList()).append(";\n");
+            }
+        }
+        script.append("SET unique_checks = 1;\n")
+                .append("SET foreign_key_checks = 1;\n");
+        Files.writeString(directory.resolve("load.sql"), script, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.barbershop.datagen;
+
+import lombok.Getter;
+
+/** Cardinalities, skew and time range of a generated dataset. */
+@Getter
+public final class GeneratorConfig {
+
+    private final int locations;
+    private final int barbers;
+    private final int offerings;
+    private final int offeringsPerBarber;
+    private final int users;
+    private final long orders;
+    private final int historyDays;
+    private final int bookingDays;
+    private final double futureBookedShare;
+    private final double barberSkew;
+    private final double offeringSkew;
+    private final double userSkew;
+    private final int threads;
+    private final long seed;
+
+    public GeneratorConfig(Settings settings) {
+        locations = settings.intValue("locations", 50);
+        barbers = settings.intValue("barbers", 2_000);
+        offerings = settings.intValue("offerings", 200);
+        offeringsPerBarber = settings.intValue("offeringsPerBarber", 8);
+        users = settings.intValue("users", 100_000);
+        orders = settings.longValue("orders", 1_000_000);
+        historyDays = settings.intValue("historyDays", 365);
+        bookingDays = settings.intValue("bookingDays", 7);
+        futureBookedShare = settings.doubleValue("futureBookedShare", 0.4);
+        barberSkew = settings.doubleValue("barberSkew", 1.0);
+        offeringSkew = settings.doubleValue("offeringSkew", 1.0);
+        userSkew = settings.doubleValue("userSkew", 0.8);
+        threads = settings.intValue("threads", Runtime.getRuntime().availableProcessors());
+        seed = settings.longValue("seed", 42);
+        if (locations <= 0 || barbers <= 0 || offerings <= 0 || users <= 0 || threads <= 0
+                || historyDays <= 0) {
+            throw new IllegalArgumentException("Cardinalities, historyDays and threads "
+                    + "must be positive");
+        }
+        if (offeringsPerBarber <= 0 || offeringsPerBarber > offerings) {
+            throw new IllegalArgumentException("offeringsPerBarber must be between 1 and "
+                    + "offerings");
+        }
+    }
+}
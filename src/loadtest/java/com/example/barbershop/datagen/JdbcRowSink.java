@@ -0,0 +1,91 @@
+package com.example.barbershop.datagen;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+/**
+ * Batched inserts on a connection of its own, committed every batch so a large load never
+ * holds one huge transaction. On MySQL, foreign-key and unique checks are switched off
+ * for the session; the generator keeps the data consistent itself.
+ */
+public final class JdbcRowSink implements RowSink {
+
+    private final Connection connection;
+    private final PreparedStatement insert;
+    private final int batchSize;
+    private int pending;
+
+    private JdbcRowSink(Connection connection, Table table, int batchSize) throws SQLException {
+        this.connection = connection;
+        this.batchSize = batchSize;
+        connection.setAutoCommit(false);
+        if (connection.getMetaData().getDatabaseProductName().startsWith("MySQL")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET foreign_key_checks = 0, unique_checks = 0");
+            }
+        }
+        this.insert = connection.prepareStatement(table.insertSql());
+    }
+
+    public static RowSink.Factory factory(DataSource dataSource, int batchSize) {
+        return (table, partition) -> {
+            Connection connection = null;
+            try {
+                connection = dataSource.getConnection();
+                return new JdbcRowSink(connection, table, batchSize);
+            } catch (SQLException e) {
+                closeQuietly(connection);
+                throw new IOException("Cannot open a connection for " + table, e);
+            }
+        };
+    }
+
+    @Override
+    public void add(Object... values) throws IOException {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                insert.setObject(i + 1, values[i]);
+            }
+            insert.addBatch();
+            if (++pending == batchSize) {
+                flush();
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            insert.close();
+        } catch (SQLException e) {
+            throw new IOException(e);
+        } finally {
+            closeQuietly(connection);
+        }
+    }
+
+    private void flush() throws SQLException {
+        if (pending > 0) {
+            insert.executeBatch();
+            connection.commit();
+            pending = 0;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // nothing left to release
+            }
+        }
+    }
+}
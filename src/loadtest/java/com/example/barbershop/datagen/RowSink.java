@@ -0,0 +1,17 @@
+package com.example.barbershop.datagen;
+
+import java.io.IOException;
+
+/** Receives the generated rows of one table, or one partition of a table. */
+public interface RowSink extends AutoCloseable {
+
+    void add(Object... values) throws IOException;
+
+    @Override
+    void close() throws IOException;
+
+    /** Opens sinks; called once per table and, for orders, once per partition. */
+    interface Factory {
+        RowSink open(Table table, int partition) throws IOException;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.barbershop.datagen;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code key=value} command-line settings. Each getter consumes its key, so once every
+ * consumer has read its settings {@link #requireConsumed()} can reject typos instead of
+ * silently running with a default.
+ */
+public final class Settings {
+
+    private final Map<String, String> values = new LinkedHashMap<>();
+
+    private Settings() {
+    }
+
+    /** Splits every argument on whitespace, so several settings can share one argument. */
+    public static Settings parse(String[] args) {
+        Settings settings = new Settings();
+        for (String arg : args) {
+            for (String setting : arg.trim().split("\\s+")) {
+                if (setting.isEmpty()) {
+                    continue;
+                }
+                int separator = setting.indexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Expected key=value, got " + setting);
+                }
+                settings.values.put(setting.substring(0, separator),
+                        setting.substring(separator + 1));
+            }
+        }
+        return settings;
+    }
+
+    public String value(String key, String defaultValue) {
+        String value = values.remove(key);
+        return value == null ? defaultValue : value;
+    }
+
+    public int intValue(String key, int defaultValue) {
+        String value = values.remove(key);
+        return value == null ? defaultValue : Integer.parseInt(value.replace("_", ""));
+    }
+
+    public long longValue(String key, long defaultValue) {
+        String value = values.remove(key);
+        return value == null ? defaultValue : Long.parseLong(value.replace("_", ""));
+    }
+
+    public double doubleValue(String key, double defaultValue) {
+        String value = values.remove(key);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    public Duration durationValue(String key, Duration defaultValue) {
+        String value = values.remove(key);
+        return value == null ? defaultValue : Duration.parse(value);
+    }
+
+    public void requireConsumed() {
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown settings: " + values.keySet());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.barbershop.datagen;
+
+/** The tables the generator fills, with the columns it writes in order. */
+public enum Table {
+    LOCATION("location", "location_id", "name", "address", "latitude", "longitude"),
+    OFFERING("offering", "offering_id", "name", "price", "duration"),
+    BARBER("barber", "barber_id", "name", "available_days_mask", "start_time", "end_time",
+            "location_id"),
+    BARBER_OFFERING("barber_offering", "barber_id", "offering_id"),
+    USER("user", "user_id", "username", "password"),
+    ORDERS("orders", "order_date", "barber_id", "offering_id", "location_id", "user_id");
+
+    private final String tableName;
+    private final String[] columns;
+
+    Table(String tableName, String... columns) {
+        this.tableName = tableName;
+        this.columns = columns;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String columnList() {
+        return "(" + String.join(", ", columns) + ")";
+    }
+
+    public String insertSql() {
+        return "INSERT INTO " + tableName + " " + columnList() + " VALUES ("
+                + "?, ".repeat(columns.length - 1) + "?)";
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.barbershop.datagen;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes rows as tab-separated lines in MySQL's default {@code LOAD DATA} format: no
+ * quoting, {@code \N} for null. Generated values never contain tabs or line breaks, so
+ * no escaping is needed.
+ */
+public final class TsvRowSink implements RowSink {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final Writer writer;
+    private final StringBuilder line = new StringBuilder(128);
+
+    private TsvRowSink(Path file) throws IOException {
+        this.writer = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8),
+                BUFFER_SIZE);
+    }
+
+    public static String fileName(Table table, int partition) {
+        return table == Table.ORDERS
+                ? table.getTableName() + "-" + partition + ".tsv"
+                : table.getTableName() + ".tsv";
+    }
+
+    public static RowSink.Factory factory(Path directory) {
+        return (table, partition) -> new TsvRowSink(directory.resolve(fileName(table, partition)));
+    }
+
+    @Override
+    public void add(Object... values) throws IOException {
+        line.setLength(0);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append('\t');
+            }
+            line.append(values[i] == null ? "\\N" : values[i]);
+        }
+        line.append('\n');
+        writer.append(line);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.barbershop.datagen;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Draws ids {@code 1..n} with Zipf-distributed popularity: the k-th most popular id is
+ * picked with probability proportional to {@code 1 / k^exponent}. Exponent 0 is uniform,
+ * 1 is the classic long tail. Ranks are shuffled onto ids so popular ids are not simply
+ * the lowest ones. Sampling is a binary search over the cumulative weights.
+ */
+public final class Zipf {
+
+    private final double[] cumulative;
+    private final int[] idByRank;
+
+    public Zipf(int n, double exponent, Random random) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        cumulative = new double[n];
+        double total = 0;
+        for (int rank = 0; rank < n; rank++) {
+            total += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= total;
+        }
+        idByRank = new int[n];
+        for (int i = 0; i < n; i++) {
+            idByRank[i] = i + 1;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = idByRank[i];
+            idByRank[i] = idByRank[j];
+            idByRank[j] = swap;
+        }
+    }
+
+    /** The id for a uniform draw from {@code [0, 1)}. */
+    public int sample(double uniform) {
+        int index = Arrays.binarySearch(cumulative, uniform);
+        int rank = index >= 0 ? index + 1 : -index - 1;
+        return idByRank[Math.min(rank, idByRank.length - 1)];
+    }
+
+    public int size() {
+        return idByRank.length;
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.barbershop.loadtest;
+
+import com.example.barbershop.BarbershopApplication;
+import com.example.barbershop.datagen.DataGenerator;
+import com.example.barbershop.datagen.GeneratorConfig;
+import com.example.barbershop.datagen.JdbcRowSink;
+import com.example.barbershop.datagen.Settings;
+import com.example.barbershop.dto.AvailabilityDto;
+import com.example.barbershop.metrics.LatencyHistogram;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application on an in-memory H2 database in MySQL mode, fills it with
+ * {@link DataGenerator} and replays booking sessions from {@code concurrency} closed-loop
+ * clients: list locations, list the barbers at one, usually check a barber's
+ * availability, sometimes book a free slot, and rarely list all orders. Barbers and users
+ * are picked with the same popularity skew as the generated orders. Per-endpoint
+ * throughput and latency percentiles are printed and written as JSON.
+ *
+ * <p>Runs offline: {@code mvn -Ploadtest test-compile exec:exec
+ * -Dloadtest.args="orders=200000 barberSkew=1.2 duration=PT30S"}. Generator settings
+ * ({@link GeneratorConfig}) and load settings ({@link LoadTestConfig}) share the
+ * arguments.
+ */
+public final class LoadTest {
+
+    private static final String[] ENDPOINTS = {"locations", "barbers by location",
+        "availability", "booking", "order list"};
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    private static final int GENERATOR_BATCH_SIZE = 5_000;
+
+    private final LoadTestConfig config;
+    private final DataGenerator data;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
+    private final Map<String, LongAdder> errors = new LinkedHashMap<>();
+    private String baseUrl;
+    private volatile boolean measuring;
+    private volatile boolean running = true;
+
+    private LoadTest(LoadTestConfig config, DataGenerator data) {
+        this.config = config;
+        this.data = data;
+        for (String endpoint : ENDPOINTS) {
+            latencies.put(endpoint, new LatencyHistogram());
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.parse(args);
+        LoadTestConfig config = new LoadTestConfig(settings);
+        DataGenerator data = new DataGenerator(new GeneratorConfig(settings));
+        settings.requireConsumed();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                BarbershopApplication.class)
+                .run(applicationArguments());
+        try {
+            long started = System.nanoTime();
+            long orders = data.generate(JdbcRowSink.factory(context.getBean(DataSource.class),
+                    GENERATOR_BATCH_SIZE));
+            System.out.printf("Generated %d orders in %d ms%n", orders,
+                    (System.nanoTime() - started) / 1_000_000);
+            LoadTest test = new LoadTest(config, data);
+            test.baseUrl = "http://localhost:"
+                    + context.getEnvironment().getProperty("local.server.port");
+            test.run();
+            test.report(orders);
+        } finally {
+            context.close();
+        }
+    }
+
+    /** Passed as command-line arguments so they override {@code application.properties}. */
+    private static String[] applicationArguments() {
+        return new String[] {
+            "--spring.datasource.url="
+                    + "jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.hibernate.ddl-auto=create",
+            "--spring.jpa.show-sql=false",
+            "--server.port=0",
+            "--visits.persistence.enabled=false",
+            "--cache.warmup.enabled=false"
+        };
+    }
+
+    private void run() throws InterruptedException {
+        ExecutorService clients = Executors.newFixedThreadPool(config.concurrency);
+        for (int i = 0; i < config.concurrency; i++) {
+            clients.execute(this::clientLoop);
+        }
+        System.out.printf("Warming up for %s with %d clients%n", config.warmup,
+                config.concurrency);
+        Thread.sleep(config.warmup.toMillis());
+        latencies.values().forEach(LatencyHistogram::reset);
+        errors.values().forEach(LongAdder::reset);
+        measuring = true;
+        System.out.printf("Measuring for %s%n", config.duration);
+        Thread.sleep(config.duration.toMillis());
+        measuring = false;
+        running = false;
+        clients.shutdown();
+        if (!clients.awaitTermination(1, TimeUnit.MINUTES)) {
+            clients.shutdownNow();
+        }
+    }
+
+    private void clientLoop() {
+        while (running) {
+            try {
+                session();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void session() throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long barberId = data.pickBarber(random.nextDouble());
+        long locationId = DataGenerator.locationOf(data.getConfig(), barberId);
+
+        get("locations", "/locations");
+        get("barbers by location", "/barbers/by-location?locationName="
+                + URLEncoder.encode(DataGenerator.locationName(locationId),
+                StandardCharsets.UTF_8));
+        if (random.nextDouble() < config.availabilityShare) {
+            String body = get("availability", "/barbers/" + barberId + "/availability");
+            if (body != null && random.nextDouble() < config.bookingShare) {
+                AvailabilityDto[] days = readAvailability(body);
+                if (days.length > 0) {
+                    AvailabilityDto day = days[random.nextInt(days.length)];
+                    String time = day.getTimes().get(random.nextInt(day.getTimes().size()));
+                    Map<String, Object> order = new LinkedHashMap<>();
+                    order.put("orderDate", day.getDate() + "T" + time + ":00");
+                    order.put("barberId", barberId);
+                    long[] offerings = data.offeringsOf(barberId);
+                    order.put("offeringId", offerings[random.nextInt(offerings.length)]);
+                    order.put("locationId", locationId);
+                    order.put("userId", data.pickUser(random.nextDouble()));
+                    post("booking", "/orders", toJson(order));
+                }
+            }
+        }
+        if (random.nextDouble() < config.orderListShare) {
+            get("order list", "/orders");
+        }
+    }
+
+    private AvailabilityDto[] readAvailability(String body) {
+        try {
+            return objectMapper.readValue(body, AvailabilityDto[].class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String get(String endpoint, String path) throws InterruptedException {
+        return send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET());
+    }
+
+    private void post(String endpoint, String path, String json)
+            throws InterruptedException {
+        send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    /** The response body, or {@code null} for a non-2xx status or a transport failure. */
+    private String send(String endpoint, HttpRequest.Builder request)
+            throws InterruptedException {
+        long started = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request.timeout(REQUEST_TIMEOUT).build(),
+                    HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            response = null;
+        }
+        long elapsed = System.nanoTime() - started;
+        boolean ok = response != null && response.statusCode() / 100 == 2;
+        if (measuring) {
+            latencies.get(endpoint).recordNanos(elapsed);
+            if (!ok) {
+                errors.get(endpoint).increment();
+            }
+        }
+        return ok ? response.body() : null;
+    }
+
+    private void report(long orders) throws IOException {
+        double seconds = config.duration.toMillis() / 1000.0;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        StringBuilder table = new StringBuilder(String.format(
+                "%n%-20s %9s %7s %9s %9s %9s %9s %9s %9s%n", "endpoint", "requests",
+                "errors", "req/s", "mean ms", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (String endpoint : ENDPOINTS) {
+            LatencyHistogram.Snapshot snapshot = latencies.get(endpoint).snapshot();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", endpoint);
+            row.put("requests", snapshot.getCount());
+            row.put("errors", errors.get(endpoint).sum());
+            row.put("throughput", snapshot.getCount() / seconds);
+            row.put("meanMillis", snapshot.getMeanMicros() / 1000.0);
+            row.put("p50Millis", snapshot.percentileMicros(50) / 1000.0);
+            row.put("p95Millis", snapshot.percentileMicros(95) / 1000.0);
+            row.put("p99Millis", snapshot.percentileMicros(99) / 1000.0);
+            row.put("maxMillis", snapshot.getMaxMicros() / 1000.0);
+            rows.add(row);
+            table.append(String.format("%-20s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint, row.get("requests"), row.get("errors"), row.get("throughput"),
+                    row.get("meanMillis"), row.get("p50Millis"), row.get("p95Millis"),
+                    row.get("p99Millis"), row.get("maxMillis")));
+        }
+        System.out.println(table);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("concurrency", config.concurrency);
+        result.put("durationSeconds", seconds);
+        result.put("barbers", data.getConfig().getBarbers());
+        result.put("users", data.getConfig().getUsers());
+        result.put("orders", orders);
+        result.put("barberSkew", data.getConfig().getBarberSkew());
+        result.put("endpoints", rows);
+        File file = new File(config.result);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(file, result);
+        System.out.println("Load-test result is saved to " + file.getPath());
+    }
+}
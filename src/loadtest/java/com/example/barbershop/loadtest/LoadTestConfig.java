@@ -0,0 +1,26 @@
+package com.example.barbershop.loadtest;
+
+import com.example.barbershop.datagen.Settings;
+import java.time.Duration;
+
+/** Client count, timing and session mix of a load-test run. */
+final class LoadTestConfig {
+
+    final int concurrency;
+    final Duration warmup;
+    final Duration duration;
+    final double availabilityShare;
+    final double bookingShare;
+    final double orderListShare;
+    final String result;
+
+    LoadTestConfig(Settings settings) {
+        concurrency = settings.intValue("concurrency", 32);
+        warmup = settings.durationValue("warmup", Duration.ofSeconds(15));
+        duration = settings.durationValue("duration", Duration.ofSeconds(60));
+        availabilityShare = settings.doubleValue("availabilityShare", 0.8);
+        bookingShare = settings.doubleValue("bookingShare", 0.35);
+        orderListShare = settings.doubleValue("orderListShare", 0.02);
+        result = settings.value("result", "target/loadtest-result.json");
+    }
+}
@@ -2,14 +2,23 @@ package com.example.barbershop;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @EnableAsync
+@EnableScheduling
 public class BarbershopApplication {
 
+	private static final int STARTUP_STEP_CAPACITY = 8192;
+
 	public static void main(String[] args) {
-		SpringApplication.run(BarbershopApplication.class, args);
+		SpringApplication application = new SpringApplication(BarbershopApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		application.run(args);
 	}
 
 }
\ No newline at end of file
@@ -5,14 +5,19 @@ import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class Cache {
-    private static final int MAX_CACHE_SIZE = 2;
+    private static final int DEFAULT_MAX_SIZE = 10_000;
+    private final int maxSize;
     private final Map<String, CacheEntry> cacheMap;
+    private final ReentrantLock lock = new ReentrantLock();
     private static final Logger logger = LoggerFactory.getLogger(Cache.class);
     private static final Duration TTL = Duration.ofMinutes(1);
 
@@ -31,10 +36,16 @@ public class Cache {
     }
 
     public Cache() {
-        this.cacheMap = new LinkedHashMap<>(MAX_CACHE_SIZE, 0.75f, true) {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    @Autowired
+    public Cache(@Value("${cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.cacheMap = new LinkedHashMap<>(16, 0.75f, true) {
             @Override
             protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
-                boolean shouldRemove = size() > MAX_CACHE_SIZE;
+                boolean shouldRemove = size() > maxSize;
                 if (shouldRemove) {
                     logger.info("Переполнение кэша. Удаление старейшей записи из кэша: ключ={}",
                             eldest.getKey());
@@ -45,33 +56,44 @@ public class Cache {
     }
 
     public void put(String key, Object value) {
-        synchronized (cacheMap) {
+        lock.lock();
+        try {
             cacheMap.put(key, new CacheEntry(value));
-            logger.info("Добавлено в кэш: ключ={}", key);
+        } finally {
+            lock.unlock();
         }
+        logger.info("Добавлено в кэш: ключ={}", key);
     }
 
     public Optional<Object> get(String key) {
-        synchronized (cacheMap) {
-            CacheEntry entry = cacheMap.get(key);
-            if (entry != null) {
-                logger.info("Попадание в кэш: ключ={}", key);
-                return Optional.of(entry.value);
-            } else {
-                logger.info("Промах кэша: ключ={}", key);
-                return Optional.empty();
-            }
+        CacheEntry entry;
+        lock.lock();
+        try {
+            entry = cacheMap.get(key);
+        } finally {
+            lock.unlock();
+        }
+        if (entry != null) {
+            logger.info("Попадание в кэш: ключ={}", key);
+            return Optional.of(entry.value);
+        } else {
+            logger.info("Промах кэша: ключ={}", key);
+            return Optional.empty();
         }
     }
 
     public void remove(String key) {
-        synchronized (cacheMap) {
-            CacheEntry removedEntry = cacheMap.remove(key);
-            if (removedEntry != null) {
-                logger.info("Удалено из кэша: ключ={}", key);
-            } else {
-                logger.info("Попытка удалить несуществующий ключ из кэша: ключ={}", key);
-            }
+        CacheEntry removedEntry;
+        lock.lock();
+        try {
+            removedEntry = cacheMap.remove(key);
+        } finally {
+            lock.unlock();
+        }
+        if (removedEntry != null) {
+            logger.info("Удалено из кэша: ключ={}", key);
+        } else {
+            logger.info("Попытка удалить несуществующий ключ из кэша: ключ={}", key);
         }
     }
 
@@ -81,11 +103,15 @@ public class Cache {
     }
 
     public int size() {
-        synchronized (cacheMap) {
+        int size;
+        lock.lock();
+        try {
             cleanUp();
-            int size = cacheMap.size();
-            logger.info("Текущий размер кэша: {}", size);
-            return size;
+            size = cacheMap.size();
+        } finally {
+            lock.unlock();
         }
+        logger.info("Текущий размер кэша: {}", size);
+        return size;
     }
 }
\ No newline at end of file
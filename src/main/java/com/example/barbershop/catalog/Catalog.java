@@ -0,0 +1,147 @@
+package com.example.barbershop.catalog;
+
+import com.example.barbershop.model.Barber;
+import com.example.barbershop.model.DayMask;
+import com.example.barbershop.model.Location;
+import com.example.barbershop.model.Offering;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of barbers, offerings and locations with everything order
+ * validation needs: working days as a bit mask, working hours as seconds of the day,
+ * location id, and the offerings of each barber as a bitset over offering indices.
+ */
+public final class Catalog {
+
+    public static final Catalog EMPTY = build(List.of(), List.of(), List.of());
+
+    private static final long NO_LOCATION = Long.MIN_VALUE;
+    private static final int NO_TIME = -1;
+    private static final long[] NO_BARBERS = new long[0];
+
+    private final LongIndex barbers;
+    private final LongIndex offerings;
+    private final LongIndex locations;
+    private final int[] workingDays;
+    private final int[] startSeconds;
+    private final int[] endSeconds;
+    private final long[] barberLocations;
+    private final long[][] barberOfferings;
+    private final Map<Long, long[]> locationBarbers;
+
+    private Catalog(LongIndex barbers, LongIndex offerings, LongIndex locations,
+                    int[] workingDays, int[] startSeconds, int[] endSeconds,
+                    long[] barberLocations, long[][] barberOfferings,
+                    Map<Long, long[]> locationBarbers) {
+        this.barbers = barbers;
+        this.offerings = offerings;
+        this.locations = locations;
+        this.workingDays = workingDays;
+        this.startSeconds = startSeconds;
+        this.endSeconds = endSeconds;
+        this.barberLocations = barberLocations;
+        this.barberOfferings = barberOfferings;
+        this.locationBarbers = locationBarbers;
+    }
+
+    public static Catalog build(List<Barber> barbers, List<Offering> offerings,
+                                List<Location> locations) {
+        long[] offeringIds = offerings.stream().mapToLong(Offering::getOfferingId).toArray();
+        LongIndex offeringIndex = new LongIndex(offeringIds);
+        LongIndex locationIndex = new LongIndex(locations.stream()
+                .mapToLong(Location::getLocationId).toArray());
+        LongIndex barberIndex = new LongIndex(barbers.stream()
+                .mapToLong(Barber::getBarberId).toArray());
+
+        int count = barbers.size();
+        int[] workingDays = new int[count];
+        int[] startSeconds = new int[count];
+        int[] endSeconds = new int[count];
+        long[] barberLocations = new long[count];
+        long[][] barberOfferings = new long[count][(offeringIds.length + 63) >>> 6];
+        for (int i = 0; i < count; i++) {
+            Barber barber = barbers.get(i);
+            workingDays[i] = DayMask.of(barber.getAvailableDays());
+            startSeconds[i] = barber.getStartTime() == null ? NO_TIME
+                    : barber.getStartTime().toLocalTime().toSecondOfDay();
+            endSeconds[i] = barber.getEndTime() == null ? NO_TIME
+                    : barber.getEndTime().toLocalTime().toSecondOfDay();
+            barberLocations[i] = barber.getLocation() == null ? NO_LOCATION
+                    : barber.getLocation().getLocationId();
+            for (Offering offering : barber.getOfferings()) {
+                int bit = offeringIndex.indexOf(offering.getOfferingId());
+                if (bit >= 0) {
+                    barberOfferings[i][bit >>> 6] |= 1L << bit;
+                }
+            }
+        }
+        Map<Long, long[]> locationBarbers = barbers.stream()
+                .filter(barber -> barber.getLocation() != null)
+                .collect(Collectors.groupingBy(barber -> barber.getLocation().getLocationId(),
+                        Collectors.collectingAndThen(Collectors.toList(), atLocation -> atLocation
+                                .stream().mapToLong(Barber::getBarberId).toArray())));
+        return new Catalog(barberIndex, offeringIndex, locationIndex, workingDays,
+                startSeconds, endSeconds, barberLocations, barberOfferings, locationBarbers);
+    }
+
+    public boolean hasBarber(long barberId) {
+        return barbers.indexOf(barberId) >= 0;
+    }
+
+    public boolean hasOffering(long offeringId) {
+        return offerings.indexOf(offeringId) >= 0;
+    }
+
+    public boolean hasLocation(long locationId) {
+        return locations.indexOf(locationId) >= 0;
+    }
+
+    public boolean offers(long barberId, long offeringId) {
+        int barber = barbers.indexOf(barberId);
+        int bit = offerings.indexOf(offeringId);
+        return barber >= 0 && bit >= 0
+                && (barberOfferings[barber][bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    public boolean worksOn(long barberId, DayOfWeek day) {
+        int barber = barbers.indexOf(barberId);
+        return barber >= 0 && DayMask.contains(workingDays[barber], day);
+    }
+
+    public boolean worksAt(long barberId, LocalTime time) {
+        int barber = barbers.indexOf(barberId);
+        if (barber < 0 || startSeconds[barber] == NO_TIME || endSeconds[barber] == NO_TIME) {
+            return false;
+        }
+        int second = time.toSecondOfDay();
+        return second >= startSeconds[barber] && second <= endSeconds[barber];
+    }
+
+    public LocalTime startTime(long barberId) {
+        int barber = barbers.indexOf(barberId);
+        return barber < 0 || startSeconds[barber] == NO_TIME ? null
+                : LocalTime.ofSecondOfDay(startSeconds[barber]);
+    }
+
+    public LocalTime endTime(long barberId) {
+        int barber = barbers.indexOf(barberId);
+        return barber < 0 || endSeconds[barber] == NO_TIME ? null
+                : LocalTime.ofSecondOfDay(endSeconds[barber]);
+    }
+
+    /** Barbers assigned to the location. */
+    public long[] barbersAt(long locationId) {
+        return locationBarbers.getOrDefault(locationId, NO_BARBERS).clone();
+    }
+
+    /** True when the barber has no fixed location or works at the given one. */
+    public boolean worksAtLocation(long barberId, long locationId) {
+        int barber = barbers.indexOf(barberId);
+        return barber >= 0 && (barberLocations[barber] == NO_LOCATION
+                || barberLocations[barber] == locationId);
+    }
+}
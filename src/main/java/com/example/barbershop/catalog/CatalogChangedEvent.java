@@ -0,0 +1,32 @@
+package com.example.barbershop.catalog;
+
+import java.util.List;
+
+/**
+ * Published by services after they change barbers, offerings or locations, with the ids
+ * of the changed entities so listeners can update incrementally.
+ */
+public final class CatalogChangedEvent {
+
+    public enum Kind { BARBER, OFFERING, LOCATION }
+
+    private final Kind kind;
+    private final List<Long> ids;
+
+    public CatalogChangedEvent(Kind kind, List<Long> ids) {
+        this.kind = kind;
+        this.ids = List.copyOf(ids);
+    }
+
+    public static CatalogChangedEvent of(Kind kind, Long id) {
+        return new CatalogChangedEvent(kind, List.of(id));
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.barbershop.catalog;
+
+import com.example.barbershop.repository.BarberRepository;
+import com.example.barbershop.repository.LocationRepository;
+import com.example.barbershop.repository.OfferingRepository;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Holds the current {@link Catalog}. Readers get the published snapshot without locking;
+ * every committed change rebuilds a new snapshot and swaps it in, and concurrent change
+ * notifications are coalesced into a single rebuild.
+ */
+@Service
+public class CatalogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogService.class);
+
+    private final BarberRepository barberRepository;
+    private final OfferingRepository offeringRepository;
+    private final LocationRepository locationRepository;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong requested = new AtomicLong();
+    private volatile Catalog catalog;
+    private volatile long built = -1;
+
+    public CatalogService(BarberRepository barberRepository,
+                          OfferingRepository offeringRepository,
+                          LocationRepository locationRepository) {
+        this.barberRepository = barberRepository;
+        this.offeringRepository = offeringRepository;
+        this.locationRepository = locationRepository;
+    }
+
+    public Catalog getCatalog() {
+        Catalog current = catalog;
+        if (current == null || built < requested.get()) {
+            refresh();
+            current = catalog;
+        }
+        return current;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        logger.debug("Catalog changed: {} {}", event.getKind(), event.getIds());
+        requested.incrementAndGet();
+        try {
+            refresh();
+        } catch (DataAccessException e) {
+            logger.warn("Failed to rebuild catalog, will retry on next read: {}",
+                    e.getMessage());
+        }
+    }
+
+    public void refresh() {
+        long target = requested.get();
+        lock.lock();
+        try {
+            if (catalog != null && built >= target) {
+                return;
+            }
+            long generation = requested.get();
+            catalog = Catalog.build(barberRepository.findAllForCatalog(),
+                    offeringRepository.findAll(), locationRepository.findAll());
+            built = generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
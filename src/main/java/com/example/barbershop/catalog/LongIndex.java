@@ -0,0 +1,48 @@
+package com.example.barbershop.catalog;
+
+import java.util.Arrays;
+
+/**
+ * Read-only open-addressing map from entity id to a dense index, so catalog lookups
+ * avoid boxing and hashing through {@code Map<Long, ...>}.
+ */
+final class LongIndex {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final long[] keys;
+    private final int[] values;
+    private final int mask;
+
+    LongIndex(long[] ids) {
+        int capacity = Integer.highestOneBit(Math.max(2, ids.length * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+        for (int i = 0; i < ids.length; i++) {
+            int slot = slot(ids[i]);
+            while (keys[slot] != EMPTY && keys[slot] != ids[i]) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = ids[i];
+            values[slot] = i;
+        }
+    }
+
+    int indexOf(long id) {
+        int slot = slot(id);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == id) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int slot(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
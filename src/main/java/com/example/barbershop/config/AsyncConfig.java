@@ -1,23 +1,39 @@
 package com.example.barbershop.config;
 
-import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    private final ExecutorProperties properties;
+    private final boolean virtualThreads;
+
+    public AsyncConfig(ExecutorProperties properties,
+                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.properties = properties;
+        this.virtualThreads = virtualThreads;
+    }
+
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(500);
-        executor.setThreadNamePrefix("LogFileTask-");
-        executor.initialize();
-        return executor;
+    public ManagedExecutor taskExecutor() {
+        return executor("log-generation");
+    }
+
+    @Bean(name = "logSearchExecutor")
+    public ManagedExecutor logSearchExecutor() {
+        return executor("log-search");
+    }
+
+    @Bean(name = "cacheRefreshExecutor")
+    public ManagedExecutor cacheRefreshExecutor() {
+        return executor("cache-refresh");
+    }
+
+    private ManagedExecutor executor(String name) {
+        return new ManagedExecutor(name, properties.pool(name), virtualThreads);
     }
-}
\ No newline at end of file
+}
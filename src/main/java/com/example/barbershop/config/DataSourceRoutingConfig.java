@@ -0,0 +1,82 @@
+package com.example.barbershop.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Clock;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Replaces the single datasource with a primary and a replica pool. Read-only
+ * transactions go to the replica, everything else to the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final String CONNECTION_HANDLING = "hibernate.connection.handling_mode";
+
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(properties.getMaxPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean(initMethod = "init")
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource primaryDataSource,
+                                               HikariDataSource replicaDataSource,
+                                               ReplicaProperties properties) {
+        return new ReplicaLagMonitor(new JdbcTemplate(primaryDataSource),
+                new JdbcTemplate(replicaDataSource), properties.getMaxLag(),
+                properties.isLagCheck(), Clock.systemUTC());
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                      HikariDataSource replicaDataSource,
+                                                      ReplicaLagMonitor replicaLagMonitor) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource,
+                replicaLagMonitor);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Spring holds the JDBC connection for the whole entity manager, which with
+     * open-in-view is the whole request, so a replica connection picked by a read-only
+     * transaction would be reused by a later write. Releasing it after every transaction
+     * lets each transaction route on its own.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        return properties -> properties.put(CONNECTION_HANDLING,
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.barbershop.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "executors")
+public class ExecutorProperties {
+
+    private Map<String, Pool> pools = new HashMap<>();
+
+    public Pool pool(String name) {
+        return pools.getOrDefault(name, new Pool());
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int coreSize = 2;
+        private int maxSize = 4;
+        private int queueCapacity = 100;
+        private Duration keepAlive = Duration.ofSeconds(60);
+        private Rejection rejection = Rejection.REJECT;
+        private Duration retryAfter = Duration.ofSeconds(30);
+    }
+
+    public enum Rejection {
+        REJECT, CALLER_RUNS
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.barbershop.config;
+
+import com.example.barbershop.dto.ExecutorStatsDto;
+import com.example.barbershop.exception.ServiceBusyException;
+import com.example.barbershop.metrics.LatencyHistogram;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Bounded {@link ThreadPoolTaskExecutor} for one named workload. A full queue either runs
+ * the task on the caller or fails fast with {@link ServiceBusyException}, and the pool
+ * keeps counters for rejected tasks and a histogram of the time tasks spend queued.
+ */
+public class ManagedExecutor extends ThreadPoolTaskExecutor {
+
+    private final String name;
+    private final ExecutorProperties.Pool settings;
+    private final LongAdder rejected = new LongAdder();
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+
+    public ManagedExecutor(String name, ExecutorProperties.Pool settings, boolean virtualThreads) {
+        this.name = name;
+        this.settings = settings;
+        setCorePoolSize(settings.getCoreSize());
+        setMaxPoolSize(settings.getMaxSize());
+        setQueueCapacity(settings.getQueueCapacity());
+        setKeepAliveSeconds((int) settings.getKeepAlive().toSeconds());
+        setThreadNamePrefix(name + "-");
+        setVirtualThreads(virtualThreads);
+        setRejectedExecutionHandler(rejectionHandler());
+        setTaskDecorator(task -> {
+            long queuedAt = System.nanoTime();
+            return () -> {
+                queueWait.recordNanos(System.nanoTime() - queuedAt);
+                task.run();
+            };
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ExecutorStatsDto getStats() {
+        ThreadPoolExecutor pool = getThreadPoolExecutor();
+        LatencyHistogram.Snapshot wait = queueWait.snapshot();
+        ExecutorStatsDto dto = new ExecutorStatsDto();
+        dto.setName(name);
+        dto.setRejection(settings.getRejection().name());
+        dto.setPoolSize(pool.getPoolSize());
+        dto.setMaxPoolSize(pool.getMaximumPoolSize());
+        dto.setActive(pool.getActiveCount());
+        dto.setQueued(pool.getQueue().size());
+        dto.setQueueCapacity(settings.getQueueCapacity());
+        dto.setCompleted(pool.getCompletedTaskCount());
+        dto.setRejected(rejected.sum());
+        dto.setQueueWaitP50Ms(wait.percentileMicros(50) / 1000.0);
+        dto.setQueueWaitP99Ms(wait.percentileMicros(99) / 1000.0);
+        dto.setQueueWaitMaxMs(wait.getMaxMicros() / 1000.0);
+        return dto;
+    }
+
+    private RejectedExecutionHandler rejectionHandler() {
+        if (settings.getRejection() == ExecutorProperties.Rejection.CALLER_RUNS) {
+            RejectedExecutionHandler callerRuns = new ThreadPoolExecutor.CallerRunsPolicy();
+            return (task, executor) -> {
+                rejected.increment();
+                callerRuns.rejectedExecution(task, executor);
+            };
+        }
+        return (task, executor) -> {
+            rejected.increment();
+            throw new ServiceBusyException("Executor " + name + " is saturated",
+                    settings.getRetryAfter());
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.barbershop.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs virtual threads that stay pinned to their carrier, typically by blocking inside a
+ * {@code synchronized} block or a native frame, using the JFR
+ * {@code jdk.VirtualThreadPinned} event available from Java 21.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class PinnedThreadMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PinnedThreadMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 8;
+
+    private final Duration threshold;
+    private final LongAdder pinnedCount = new LongAdder();
+    private RecordingStream stream;
+
+    public PinnedThreadMonitor(
+            @Value("${threads.pinning.threshold:PT0.02S}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    void start() {
+        if (Runtime.version().feature() < 21) {
+            logger.warn("Virtual threads need Java 21, running on {}", Runtime.version());
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::report);
+        stream.startAsync();
+        logger.info("Reporting virtual threads pinned for longer than {}", threshold);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedCount.increment();
+        StringBuilder frames = new StringBuilder();
+        if (event.getStackTrace() != null) {
+            List<RecordedFrame> stack = event.getStackTrace().getFrames();
+            for (RecordedFrame frame : stack.subList(0, Math.min(STACK_DEPTH, stack.size()))) {
+                frames.append("\n\tat ").append(frame.getMethod().getType().getName())
+                        .append('.').append(frame.getMethod().getName())
+                        .append(':').append(frame.getLineNumber());
+            }
+        }
+        logger.warn("Virtual thread pinned for {} ms{}", event.getDuration().toMillis(), frames);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.barbershop.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Measures replication lag with a heartbeat row: the primary stores the current time,
+ * replication copies it, and the age of the copy read back from the replica is the lag.
+ * The replica counts as unusable until the first successful check, when the lag exceeds
+ * the limit, or when it cannot be reached.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    static final String HEARTBEAT_TABLE = "replica_heartbeat";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private final boolean lagCheck;
+    private final Clock clock;
+    private volatile boolean usable;
+    private volatile long lagMillis = -1;
+
+    public ReplicaLagMonitor(JdbcTemplate primary, JdbcTemplate replica, Duration maxLag,
+                             boolean lagCheck, Clock clock) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.lagCheck = lagCheck;
+        this.clock = clock;
+    }
+
+    public void init() {
+        if (lagCheck) {
+            try {
+                primary.execute("CREATE TABLE IF NOT EXISTS " + HEARTBEAT_TABLE
+                        + " (id INT PRIMARY KEY, beat_millis BIGINT NOT NULL)");
+            } catch (DataAccessException e) {
+                logger.warn("Failed to create heartbeat table: {}", e.getMessage());
+            }
+        }
+        check();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.heartbeat-interval:PT1S}")
+    public void check() {
+        if (!lagCheck) {
+            usable = isReachable();
+            return;
+        }
+        beat();
+        boolean wasUsable = usable;
+        try {
+            List<Long> beats = replica.queryForList(
+                    "SELECT beat_millis FROM " + HEARTBEAT_TABLE + " WHERE id = 1", Long.class);
+            lagMillis = beats.isEmpty() ? -1 : Math.max(0, clock.millis() - beats.get(0));
+            usable = lagMillis >= 0 && lagMillis <= maxLag.toMillis();
+        } catch (DataAccessException e) {
+            lagMillis = -1;
+            usable = false;
+        }
+        if (wasUsable != usable) {
+            logger.warn("Replica {}, lag {} ms", usable ? "back in use" : "bypassed", lagMillis);
+        }
+    }
+
+    private void beat() {
+        long now = clock.millis();
+        try {
+            if (primary.update("UPDATE " + HEARTBEAT_TABLE + " SET beat_millis = ? WHERE id = 1",
+                    now) == 0) {
+                primary.update("INSERT INTO " + HEARTBEAT_TABLE
+                        + " (id, beat_millis) VALUES (1, ?)", now);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Failed to write replication heartbeat: {}", e.getMessage());
+        }
+    }
+
+    private boolean isReachable() {
+        try {
+            replica.queryForObject("SELECT 1", Integer.class);
+            return true;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    /** Last measured lag, or -1 when unknown. */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.barbershop.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaProperties {
+
+    private boolean enabled;
+    private String url;
+    private String username;
+    private String password;
+    private int maxPoolSize = 10;
+
+    /** Read-only transactions fall back to the primary once the replica lags more. */
+    private Duration maxLag = Duration.ofSeconds(5);
+    private Duration heartbeatInterval = Duration.ofSeconds(1);
+
+    /**
+     * Set to false when the replica is not fed by replication (e.g. two local stand-in
+     * databases) and the heartbeat would never arrive.
+     */
+    private boolean lagCheck = true;
+}
@@ -0,0 +1,58 @@
+package com.example.barbershop.config;
+
+import com.example.barbershop.dto.ReplicaStatusDto;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections of read-only transactions to the replica while the
+ * {@link ReplicaLagMonitor} considers it fresh, everything else to the primary. Must be
+ * wrapped in a {@code LazyConnectionDataSourceProxy}, so the connection is fetched on the
+ * first statement, after the transaction has been marked read-only.
+ * <p>
+ * Reads whose result goes into {@code Cache} must not be read-only: writers evict those
+ * entries before the replica has caught up, so a replica read could put the pre-write
+ * state back and serve it until the next write.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor monitor;
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReplicaLagMonitor monitor) {
+        this.monitor = monitor;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Target.PRIMARY;
+        }
+        if (monitor.isUsable()) {
+            replicaReads.increment();
+            return Target.REPLICA;
+        }
+        fallbackReads.increment();
+        return Target.PRIMARY;
+    }
+
+    public ReplicaStatusDto getStatus() {
+        ReplicaStatusDto dto = new ReplicaStatusDto();
+        dto.setUsable(monitor.isUsable());
+        dto.setLagMillis(monitor.getLagMillis());
+        dto.setMaxLagMillis(monitor.getMaxLag().toMillis());
+        dto.setReplicaReads(replicaReads.sum());
+        dto.setFallbackReads(fallbackReads.sum());
+        return dto;
+    }
+}
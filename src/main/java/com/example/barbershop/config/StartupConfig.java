@@ -0,0 +1,23 @@
+package com.example.barbershop.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Beans that stay eager when {@code spring.main.lazy-initialization} is on. The connection
+ * pool and JPA bootstrap are the slowest part of the request path and should fail at
+ * startup rather than on the first request; beans with {@code @Scheduled} methods are
+ * already kept eager by Spring Boot.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerInfrastructure() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class,
+                EntityManagerFactory.class, PinnedThreadMonitor.class);
+    }
+}
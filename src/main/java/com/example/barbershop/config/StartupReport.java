@@ -0,0 +1,124 @@
+package com.example.barbershop.config;
+
+import com.example.barbershop.dto.StartupReportDto;
+import com.example.barbershop.dto.StartupStepDto;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+/**
+ * Summarizes where startup time went once the application is ready: total time, time per
+ * startup phase and the slowest beans. Times are self times, so a bean is not charged
+ * for the dependencies created while it was being instantiated. Needs the
+ * {@link BufferingApplicationStartup} installed in {@code main}; otherwise only the total
+ * is known.
+ */
+@Component
+public class StartupReport {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupReport.class);
+    private static final String BEAN_INSTANTIATION = "spring.beans.instantiate";
+
+    private final int top;
+    private volatile StartupReportDto report;
+
+    public StartupReport(@Value("${startup.report.top:15}") int top) {
+        this.top = top;
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        StartupReportDto dto = new StartupReportDto();
+        Duration timeTaken = event.getTimeTaken();
+        dto.setStartupMillis(timeTaken == null ? 0 : timeTaken.toMillis());
+        dto.setAotEnabled(AotDetector.useGeneratedArtifacts());
+        dto.setClassDataSharing(ManagementFactory.getRuntimeMXBean().getInputArguments()
+                .stream().anyMatch(argument -> argument.startsWith("-XX:SharedArchiveFile")));
+        dto.setLazyInitialization(event.getApplicationContext().getEnvironment()
+                .getProperty("spring.main.lazy-initialization", Boolean.class, false));
+        dto.setPhases(List.of());
+        dto.setSlowestBeans(List.of());
+        if (event.getApplicationContext().getApplicationStartup()
+                instanceof BufferingApplicationStartup startup) {
+            summarize(startup.getBufferedTimeline(), dto);
+        }
+        report = dto;
+
+        logger.info("Started in {} ms (AOT: {}, CDS: {}, lazy init: {})",
+                dto.getStartupMillis(), dto.isAotEnabled(), dto.isClassDataSharing(),
+                dto.isLazyInitialization());
+        for (StartupStepDto phase : dto.getPhases()) {
+            logger.info("Startup phase {}: {} ms", phase.getName(), phase.getMillis());
+        }
+        for (StartupStepDto bean : dto.getSlowestBeans()) {
+            logger.info("Startup bean {}: {} ms", bean.getName(), bean.getMillis());
+        }
+    }
+
+    /** The report of the last startup, or {@code null} before the application is ready. */
+    public StartupReportDto getReport() {
+        return report;
+    }
+
+    private void summarize(StartupTimeline timeline, StartupReportDto dto) {
+        Map<Long, Long> selfNanos = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            selfNanos.merge(event.getStartupStep().getId(), event.getDuration().toNanos(),
+                    Long::sum);
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                selfNanos.merge(parentId, -event.getDuration().toNanos(), Long::sum);
+            }
+        }
+
+        Map<String, Long> phases = new HashMap<>();
+        Map<String, Long> beans = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            StartupStep step = event.getStartupStep();
+            long nanos = selfNanos.getOrDefault(step.getId(), 0L);
+            phases.merge(step.getName(), nanos, Long::sum);
+            if (BEAN_INSTANTIATION.equals(step.getName())) {
+                beans.merge(tag(step, "beanName"), nanos, Long::sum);
+            }
+        }
+        dto.setPhases(slowest(phases));
+        dto.setSlowestBeans(slowest(beans));
+    }
+
+    private List<StartupStepDto> slowest(Map<String, Long> nanosByName) {
+        List<StartupStepDto> steps = new ArrayList<>();
+        nanosByName.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(top)
+                .forEach(entry -> {
+                    StartupStepDto step = new StartupStepDto();
+                    step.setName(entry.getKey());
+                    step.setMillis(Duration.ofNanos(entry.getValue()).toMillis());
+                    steps.add(step);
+                });
+        return steps;
+    }
+
+    private static String tag(StartupStep step, String key) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (key.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+}
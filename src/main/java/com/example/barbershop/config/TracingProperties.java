@@ -0,0 +1,26 @@
+package com.example.barbershop.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tracing")
+public class TracingProperties {
+
+    private Mode mode = Mode.SAMPLED;
+    private double sampleRate = 1.0;
+    private Map<String, Double> endpoints = new HashMap<>();
+    private int maxRenderLength = 256;
+
+    public double sampleRateFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, sampleRate);
+    }
+
+    public enum Mode {
+        OFF, SAMPLED, FULL
+    }
+}
@@ -2,9 +2,14 @@ package com.example.barbershop.controller;
 
 import com.example.barbershop.dto.AvailabilityDto;
 import com.example.barbershop.dto.BarberDto;
+import com.example.barbershop.dto.BarberSearchResultDto;
 import com.example.barbershop.exception.ValidationException;
+import com.example.barbershop.model.Barber;
+import com.example.barbershop.search.BarberQuery;
+import com.example.barbershop.search.BarberSearchService;
 import com.example.barbershop.service.BarberService;
 import io.swagger.v3.oas.annotations.Operation;
+import java.time.LocalTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -25,6 +30,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class BarberController {
     private final BarberService barberService;
+    private final BarberSearchService barberSearchService;
     private static final Logger logger = LoggerFactory.getLogger(BarberController.class);
 
     private static final String ID_MUST_BE_POSITIVE = "ID must be greater than 0";
@@ -172,6 +178,39 @@ public class BarberController {
         return ResponseEntity.ok(barbers);
     }
 
+    @Operation(summary = "Search barbers", description
+            = "Prefix and typo-tolerant name search, filterable by offering, location name, "
+            + "working day and a time window (HH:mm) the barber must fully cover. Paged.")
+    @GetMapping("/search")
+    public BarberSearchResultDto searchBarbers(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Long offeringId,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Barber.DayOfWeek day,
+            @RequestParam(required = false) LocalTime from,
+            @RequestParam(required = false) LocalTime to,
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        BarberQuery query = new BarberQuery();
+        query.setQ(q);
+        query.setOfferingId(offeringId);
+        query.setLocation(location);
+        query.setDay(day);
+        query.setFrom(from);
+        query.setTo(to);
+        query.setPage(page);
+        query.setSize(size);
+        return barberSearchService.search(query);
+    }
+
+    @Operation(summary = "Get barbers working on a day", description
+            = "Retrieve barbers whose available days include the given day, e.g. SUNDAY.")
+    @GetMapping("/working-on/{day}")
+    public ResponseEntity<List<BarberDto>> getBarbersWorkingOn(
+            @PathVariable Barber.DayOfWeek day) {
+        return ResponseEntity.ok(barberService.getBarbersWorkingOn(day));
+    }
+
     private void validateId(Long id) {
         if (id == null || id <= 0) {
             throw new ValidationException(ID_MUST_BE_POSITIVE);
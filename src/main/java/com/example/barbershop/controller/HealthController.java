@@ -0,0 +1,41 @@
+package com.example.barbershop.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/health")
+public class HealthController {
+
+    private final ApplicationAvailability availability;
+
+    public HealthController(ApplicationAvailability availability) {
+        this.availability = availability;
+    }
+
+    @Operation(summary = "Readiness probe",
+            description = "503 until startup, including the cache warm-up, has finished.")
+    @GetMapping("/readiness")
+    public ResponseEntity<ReadinessState> getReadiness() {
+        ReadinessState state = availability.getReadinessState();
+        HttpStatus status = state == ReadinessState.ACCEPTING_TRAFFIC
+                ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(state);
+    }
+
+    @Operation(summary = "Liveness probe")
+    @GetMapping("/liveness")
+    public ResponseEntity<LivenessState> getLiveness() {
+        LivenessState state = availability.getLivenessState();
+        HttpStatus status = state == LivenessState.CORRECT
+                ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(state);
+    }
+}
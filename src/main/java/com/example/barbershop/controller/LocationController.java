@@ -1,7 +1,11 @@
 package com.example.barbershop.controller;
 
 import com.example.barbershop.dto.LocationDto;
+import com.example.barbershop.dto.NearbyLocationDto;
+import com.example.barbershop.dto.SuggestionDto;
 import com.example.barbershop.exception.ValidationException;
+import com.example.barbershop.search.NearestLocationService;
+import com.example.barbershop.search.SuggestService;
 import com.example.barbershop.service.LocationService;
 import io.swagger.v3.oas.annotations.Operation;
 import java.util.List;
@@ -17,6 +21,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,6 +29,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class LocationController {
     private final LocationService locationService;
+    private final SuggestService suggestService;
+    private final NearestLocationService nearestLocationService;
     private static final Logger logger = LoggerFactory.getLogger(LocationController.class);
 
     private static final String ID_MUST_BE_POSITIVE = "ID must be greater than 0";
@@ -31,6 +38,11 @@ public class LocationController {
     private static final String ADDRESS_REQUIRED = "Address is required";
     private static final String NAME_MIN_LENGTH = "Location name must be at least 2 characters";
     private static final String ADDRESS_MIN_LENGTH = "Address must be at least 5 characters";
+    private static final String COORDINATES_TOGETHER
+            = "Latitude and longitude must be given together";
+    private static final String LATITUDE_RANGE = "Latitude must be between -90 and 90";
+    private static final String LONGITUDE_RANGE = "Longitude must be between -180 and 180";
+    private static final String K_RANGE = "k must be between 1 and 50";
 
     @Operation(summary = "Get all locations", description = "Retrieve a list of all locations.")
     @GetMapping
@@ -39,6 +51,29 @@ public class LocationController {
         return locationService.findAll();
     }
 
+    @Operation(summary = "Suggest locations by name prefix", description
+            = "Matches the start of the name or of any word in it, most booked first.")
+    @GetMapping("/suggest")
+    public List<SuggestionDto> suggest(@RequestParam(required = false) String q) {
+        return suggestService.suggestLocations(q);
+    }
+
+    @Operation(summary = "Find the nearest locations", description
+            = "Returns up to k locations closest to lat/lon with distances in meters. "
+            + "With availableToday only locations where a barber still has a free slot today.")
+    @GetMapping("/nearest")
+    public List<NearbyLocationDto> findNearest(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(required = false, defaultValue = "5") int k,
+            @RequestParam(required = false, defaultValue = "false") boolean availableToday) {
+        validateCoordinates(lat, lon);
+        if (k < 1 || k > 50) {
+            throw new ValidationException(K_RANGE);
+        }
+        return nearestLocationService.findNearest(lat, lon, k, availableToday);
+    }
+
     @Operation(summary = "Get location by ID", description
             = "Retrieve a location by its unique ID.")
     @GetMapping("/{id}")
@@ -113,5 +148,23 @@ public class LocationController {
         if (locationDto.getAddress().trim().length() < 5) {
             throw new ValidationException(ADDRESS_MIN_LENGTH);
         }
+
+        if ((locationDto.getLatitude() == null) != (locationDto.getLongitude() == null)) {
+            throw new ValidationException(COORDINATES_TOGETHER);
+        }
+
+        if (locationDto.getLatitude() != null) {
+            validateCoordinates(locationDto.getLatitude(), locationDto.getLongitude());
+        }
+    }
+
+    private void validateCoordinates(double latitude, double longitude) {
+        if (Double.isNaN(latitude) || latitude < -90 || latitude > 90) {
+            throw new ValidationException(LATITUDE_RANGE);
+        }
+
+        if (Double.isNaN(longitude) || longitude < -180 || longitude > 180) {
+            throw new ValidationException(LONGITUDE_RANGE);
+        }
     }
 }
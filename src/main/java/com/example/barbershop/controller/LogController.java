@@ -1,14 +1,22 @@
 package com.example.barbershop.controller;
 
+import ch.qos.logback.classic.LoggerContext;
+import com.example.barbershop.dto.AppenderStatsDto;
+import com.example.barbershop.log.BatchingAsyncAppender;
 import com.example.barbershop.log.LogField;
+import com.example.barbershop.log.LogIndexService;
+import com.example.barbershop.log.LogSearchService;
 import com.example.barbershop.model.LogFileTask;
 import io.swagger.v3.oas.annotations.Operation;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
-import java.util.regex.Pattern;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -19,54 +27,60 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/logs")
 public class LogController {
 
     private final LogField logFileId;
+    private final LogIndexService logIndexService;
+    private final LogSearchService logSearchService;
     private static final Path LOGS_DIRECTORY = Path.of("logs");
+    private static final String ASYNC_APPENDER = "ASYNC";
 
-    public LogController(LogField logFileId) {
+    public LogController(LogField logFileId, LogIndexService logIndexService,
+                         LogSearchService logSearchService) {
         this.logFileId = logFileId;
+        this.logIndexService = logIndexService;
+        this.logSearchService = logSearchService;
     }
 
-    @Operation(summary = "Request log file sorted by date and logging level")
+    @Operation(summary = "Request log file sorted by date and logging level",
+            description = "Optional from/to (HH:mm) narrow the result to a time window.")
     @GetMapping
     public ResponseEntity<byte[]> getLogFile(
             @RequestParam String date,
-            @RequestParam(required = false, defaultValue = "all") String level) {
+            @RequestParam(required = false, defaultValue = "all") String level,
+            @RequestParam(required = false) String logger,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
         if (!date.matches("\\d{4}-\\d{2}-\\d{2}")) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
+        LocalTime fromTime;
+        LocalTime toTime;
+        try {
+            fromTime = from == null ? null : LocalTime.parse(from);
+            toTime = to == null ? null : LocalTime.parse(to);
+        } catch (DateTimeParseException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
         Path logFilePath = LOGS_DIRECTORY.resolve("barbershop-" + date + ".log").normalize();
 
         if (Files.exists(logFilePath) && logFilePath.startsWith(LOGS_DIRECTORY)) {
-            try (var linesStream = Files.lines(logFilePath, StandardCharsets.UTF_8)) {
-                List<String> lines;
-
-                if (!"all".equalsIgnoreCase(level)) {
-                    String logLevel = level.toUpperCase();
-                    var logPattern = Pattern.compile(
-                            "^\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\.\\d{3} "
-                                    + logLevel + " ");
-
-                    lines = linesStream.filter(line -> logPattern.matcher(line).find())
-                            .toList();
-                } else {
-                    lines = linesStream.toList();
-                }
-
-                byte[] logFileBytes = String.join("\n", lines)
-                        .getBytes(StandardCharsets.UTF_8);
+            try {
+                ByteArrayOutputStream filtered = new ByteArrayOutputStream();
+                logIndexService.query(logFilePath, level, logger, fromTime, toTime, filtered);
 
                 HttpHeaders headers = new HttpHeaders();
                 headers.setContentType(MediaType.TEXT_PLAIN);
                 headers.setContentDispositionFormData("attachment",
                         "barbershop-" + date + "-" + level + ".log");
 
-                return new ResponseEntity<>(logFileBytes, headers, HttpStatus.OK);
+                return new ResponseEntity<>(filtered.toByteArray(), headers, HttpStatus.OK);
             } catch (IOException e) {
                 return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
             }
@@ -75,17 +89,68 @@ public class LogController {
         }
     }
 
-    @Operation(summary = "Create a task to generate a log file asynchronously")
+    @Operation(summary = "Search logs across several days",
+            description = "Scans the daily files in parallel and streams matching entries "
+                    + "in timestamp order.")
+    @GetMapping("/search")
+    public ResponseEntity<StreamingResponseBody> searchLogs(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false, defaultValue = "all") String level,
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false, defaultValue = "false") boolean regex,
+            @RequestParam(required = false, defaultValue = "1000") int limit) {
+        if (!from.matches("\\d{4}-\\d{2}-\\d{2}") || !to.matches("\\d{4}-\\d{2}-\\d{2}")) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        LocalDate fromDate;
+        LocalDate toDate;
+        try {
+            fromDate = LocalDate.parse(from);
+            toDate = LocalDate.parse(to);
+        } catch (DateTimeParseException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        LogSearchService.validate(fromDate, toDate, query, regex, limit);
+
+        StreamingResponseBody body = out -> logSearchService.search(fromDate, toDate, level,
+                query, regex, limit, out);
+        return ResponseEntity.ok().contentType(MediaType.TEXT_PLAIN).body(body);
+    }
+
+    @Operation(summary = "Get statistics of the asynchronous log appender")
+    @GetMapping("/appender-stats")
+    public ResponseEntity<AppenderStatsDto> getAppenderStats() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        if (!(context.getLogger(Logger.ROOT_LOGGER_NAME)
+                .getAppender(ASYNC_APPENDER) instanceof BatchingAsyncAppender appender)) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        AppenderStatsDto stats = new AppenderStatsDto();
+        stats.setName(appender.getName());
+        stats.setQueueSize(appender.getQueueSize());
+        stats.setQueued(appender.getQueuedCount());
+        stats.setAppended(appender.getAppendedCount());
+        stats.setDropped(appender.getDroppedCount());
+        stats.setBatches(appender.getBatchCount());
+        return ResponseEntity.ok(stats);
+    }
+
+    @Operation(summary = "Create a task to generate a log file asynchronously",
+            description = "Returns 429 with Retry-After when the generation queue is full.")
     @PostMapping("/generate")
     public ResponseEntity<String> createLogFileTask(
             @RequestParam String date,
-            @RequestParam(required = false, defaultValue = "all") String level) {
+            @RequestParam(required = false, defaultValue = "all") String level,
+            @RequestParam(required = false) String logger) {
 
         if (!date.matches("\\d{4}-\\d{2}-\\d{2}")) {
             return new ResponseEntity<>("Invalid date format. Please use 'yyyy-MM-dd'.", HttpStatus.BAD_REQUEST);
         }
 
-        String taskId = logFileId.createLogFileTask(date, level);
+        String taskId = logFileId.createLogFileTask(date, level, logger);
 
         return new ResponseEntity<>(taskId, HttpStatus.ACCEPTED);
     }
@@ -104,7 +169,8 @@ public class LogController {
     @GetMapping("/download/{taskId}")
     public ResponseEntity<byte[]> downloadLogFile(@PathVariable String taskId) {
         Path filePath = logFileId.getLogFilePath(taskId);
-        if (filePath == null || !filePath.startsWith(LOGS_DIRECTORY)) {
+        if (filePath == null || !filePath.toAbsolutePath().normalize()
+                .startsWith(LOGS_DIRECTORY.toAbsolutePath())) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
@@ -0,0 +1,92 @@
+package com.example.barbershop.controller;
+
+import com.example.barbershop.config.ManagedExecutor;
+import com.example.barbershop.config.ReplicaRoutingDataSource;
+import com.example.barbershop.config.StartupReport;
+import com.example.barbershop.dto.ExecutorStatsDto;
+import com.example.barbershop.dto.LatencyStatsDto;
+import com.example.barbershop.dto.ReplicaStatusDto;
+import com.example.barbershop.dto.StartupReportDto;
+import com.example.barbershop.metrics.LatencyRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain;version=0.0.4;charset=utf-8";
+
+    private final LatencyRegistry latencyRegistry;
+    private final List<ManagedExecutor> executors;
+    private final ObjectProvider<ReplicaRoutingDataSource> routingDataSource;
+    private final StartupReport startupReport;
+
+    public MetricsController(LatencyRegistry latencyRegistry, List<ManagedExecutor> executors,
+                             ObjectProvider<ReplicaRoutingDataSource> routingDataSource,
+                             StartupReport startupReport) {
+        this.latencyRegistry = latencyRegistry;
+        this.executors = executors;
+        this.routingDataSource = routingDataSource;
+        this.startupReport = startupReport;
+    }
+
+    @Operation(summary = "Get latency percentiles per controller and repository method",
+            description = "Optional layer (controller/repository) narrows the result. "
+                    + "Sorted by p99, slowest first.")
+    @GetMapping("/latency")
+    public List<LatencyStatsDto> getLatency(@RequestParam(required = false) String layer) {
+        return latencyRegistry.getStats(layer);
+    }
+
+    @Operation(summary = "Get latency percentiles in Prometheus text format")
+    @GetMapping(value = "/latency/prometheus", produces = PROMETHEUS_CONTENT_TYPE)
+    public String getLatencyPrometheus() {
+        return latencyRegistry.toPrometheus();
+    }
+
+    @Operation(summary = "Reset all latency histograms")
+    @DeleteMapping("/latency")
+    public ResponseEntity<Void> resetLatency() {
+        latencyRegistry.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Get pool size, active, queued, completed and rejected tasks "
+            + "and queue wait time per executor")
+    @GetMapping("/executors")
+    public List<ExecutorStatsDto> getExecutors() {
+        return executors.stream().map(ManagedExecutor::getStats).toList();
+    }
+
+    @Operation(summary = "Get replica lag and how many read-only transactions were routed "
+            + "to the replica or fell back to the primary",
+            description = "Returns 404 when read/write routing is disabled.")
+    @GetMapping("/replica")
+    public ResponseEntity<ReplicaStatusDto> getReplica() {
+        ReplicaRoutingDataSource routing = routingDataSource.getIfAvailable();
+        if (routing == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(routing.getStatus());
+    }
+
+    @Operation(summary = "Get startup time per phase and the slowest beans to create",
+            description = "Also reports whether AOT, class data sharing and lazy "
+                    + "initialization were in effect. Returns 404 until startup completes.")
+    @GetMapping("/startup")
+    public ResponseEntity<StartupReportDto> getStartup() {
+        StartupReportDto report = startupReport.getReport();
+        if (report == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(report);
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.barbershop.controller;
 
 import com.example.barbershop.dto.OfferingDto;
+import com.example.barbershop.dto.SuggestionDto;
 import com.example.barbershop.exception.ValidationException;
+import com.example.barbershop.search.SuggestService;
 import com.example.barbershop.service.OfferingService;
 import io.swagger.v3.oas.annotations.Operation;
 import java.util.List;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -23,6 +26,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class OfferingController {
     private final OfferingService offeringService;
+    private final SuggestService suggestService;
     private static final Logger logger = LoggerFactory.getLogger(OfferingController.class);
 
     private static final String ID_MUST_BE_POSITIVE = "ID must be greater than 0";
@@ -40,6 +44,13 @@ public class OfferingController {
         return offeringService.findAll();
     }
 
+    @Operation(summary = "Suggest offerings by name prefix", description
+            = "Matches the start of the name or of any word in it, most booked first.")
+    @GetMapping("/suggest")
+    public List<SuggestionDto> suggest(@RequestParam(required = false) String q) {
+        return suggestService.suggestOfferings(q);
+    }
+
     @Operation(summary = "Get offering by ID", description
             = "Retrieve an offering by its unique ID.")
     @GetMapping("/{id}")
@@ -1,7 +1,12 @@
 package com.example.barbershop.controller;
 
+import com.example.barbershop.dto.UniqueVisitsDto;
+import com.example.barbershop.dto.VisitStatsDto;
 import com.example.barbershop.service.VisitCounter;
 import io.swagger.v3.oas.annotations.Operation;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -12,16 +17,53 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/visits")
 public class VisitController {
 
+    private static final int MAX_TOP = 100;
+
     private final VisitCounter visitCounter;
 
     public VisitController(VisitCounter visitCounter) {
         this.visitCounter = visitCounter;
     }
 
-    @Operation(summary = "Get the number of visits for a specific URL")
+    @Operation(summary = "Get the number of visits for a specific URL",
+            description = "Ids in the URL are normalized, so /barbers/1 and /barbers/2 "
+                    + "both count towards /barbers/{id}.")
     @GetMapping
     public ResponseEntity<Long> getVisitCount(@RequestParam String url) {
         long count = visitCounter.getVisitCount(url);
         return ResponseEntity.ok(count);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Get total and last 5 minutes / hour / day visits for a URL")
+    @GetMapping("/stats")
+    public ResponseEntity<VisitStatsDto> getVisitStats(@RequestParam String url) {
+        return ResponseEntity.ok(visitCounter.getVisitStats(url));
+    }
+
+    @Operation(summary = "Get the most visited URL templates")
+    @GetMapping("/top")
+    public ResponseEntity<List<VisitStatsDto>> getTopVisited(
+            @RequestParam(required = false, defaultValue = "10") int limit) {
+        if (limit <= 0 || limit > MAX_TOP) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(visitCounter.getTopVisited(limit));
+    }
+
+    @Operation(summary = "Get the estimated number of unique visitors for a URL",
+            description = "Visitors are identified by the X-User-Id header, falling back to "
+                    + "the client IP. from/to (yyyy-MM-dd) default to today; daily counts are "
+                    + "merged, so a visitor seen on several days is counted once.")
+    @GetMapping("/unique")
+    public ResponseEntity<UniqueVisitsDto> getUniqueVisitors(
+            @RequestParam String url,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate to) {
+        LocalDate today = LocalDate.now();
+        LocalDate toDate = to != null ? to : today;
+        LocalDate fromDate = from != null ? from : toDate;
+        return ResponseEntity.ok(visitCounter.getUniqueVisitors(url, fromDate, toDate));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.barbershop.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class AppenderStatsDto {
+    private String name;
+    private int queueSize;
+    private int queued;
+    private long appended;
+    private long dropped;
+    private long batches;
+}
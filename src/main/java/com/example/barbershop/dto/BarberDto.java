@@ -3,6 +3,7 @@ package com.example.barbershop.dto;
 import com.example.barbershop.model.Barber.DayOfWeek;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.sql.Time;
+import java.util.EnumSet;
 import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
@@ -12,7 +13,7 @@ import lombok.Setter;
 public class BarberDto {
     private Long barberId;
     private String name;
-    private Set<DayOfWeek> availableDays;
+    private EnumSet<DayOfWeek> availableDays;
     @JsonFormat(pattern = "HH:mm:ss")
     private Time startTime;
     @JsonFormat(pattern = "HH:mm:ss")
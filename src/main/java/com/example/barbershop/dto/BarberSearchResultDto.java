@@ -0,0 +1,14 @@
+package com.example.barbershop.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BarberSearchResultDto {
+    private List<BarberDto> items;
+    private long total;
+    private int page;
+    private int size;
+}
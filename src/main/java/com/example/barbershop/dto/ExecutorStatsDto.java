@@ -0,0 +1,21 @@
+package com.example.barbershop.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class ExecutorStatsDto {
+    private String name;
+    private String rejection;
+    private int poolSize;
+    private int maxPoolSize;
+    private int active;
+    private int queued;
+    private int queueCapacity;
+    private long completed;
+    private long rejected;
+    private double queueWaitP50Ms;
+    private double queueWaitP99Ms;
+    private double queueWaitMaxMs;
+}
@@ -0,0 +1,17 @@
+package com.example.barbershop.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class LatencyStatsDto {
+    private String layer;
+    private String name;
+    private long count;
+    private double meanMs;
+    private double p50Ms;
+    private double p99Ms;
+    private double p999Ms;
+    private double maxMs;
+}
@@ -10,5 +10,7 @@ public class LocationDto {
     private Long locationId;
     private String name;
     private String address;
+    private Double latitude;
+    private Double longitude;
     private Set<String> barbers;
 }
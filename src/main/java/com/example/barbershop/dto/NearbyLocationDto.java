@@ -0,0 +1,15 @@
+package com.example.barbershop.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class NearbyLocationDto {
+    private Long locationId;
+    private String name;
+    private String address;
+    private Double latitude;
+    private Double longitude;
+    private long distanceMeters;
+}
@@ -1,5 +1,6 @@
 package com.example.barbershop.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,5 +12,7 @@ public class OfferingDto {
     private String name;
     private double price;
     private int duration;
+    /** Not set for offerings nested in a barber, so it is left out of their JSON. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private Set<String> barbers;
 }
\ No newline at end of file
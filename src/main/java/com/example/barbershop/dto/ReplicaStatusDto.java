@@ -0,0 +1,14 @@
+package com.example.barbershop.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class ReplicaStatusDto {
+    private boolean usable;
+    private long lagMillis;
+    private long maxLagMillis;
+    private long replicaReads;
+    private long fallbackReads;
+}
@@ -0,0 +1,16 @@
+package com.example.barbershop.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class StartupReportDto {
+    private long startupMillis;
+    private boolean aotEnabled;
+    private boolean classDataSharing;
+    private boolean lazyInitialization;
+    private List<StartupStepDto> phases;
+    private List<StartupStepDto> slowestBeans;
+}
@@ -0,0 +1,11 @@
+package com.example.barbershop.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class StartupStepDto {
+    private String name;
+    private long millis;
+}
@@ -0,0 +1,12 @@
+package com.example.barbershop.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SuggestionDto {
+    private Long id;
+    private String name;
+    private long bookings;
+}
@@ -0,0 +1,13 @@
+package com.example.barbershop.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class UniqueVisitsDto {
+    private String url;
+    private String from;
+    private String to;
+    private long uniqueVisitors;
+}
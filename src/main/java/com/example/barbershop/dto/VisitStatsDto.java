@@ -0,0 +1,15 @@
+package com.example.barbershop.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class VisitStatsDto {
+    private String url;
+    private long total;
+    private long lastFiveMinutes;
+    private long lastHour;
+    private long lastDay;
+    private boolean estimated;
+}
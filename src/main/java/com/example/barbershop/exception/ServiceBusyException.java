@@ -0,0 +1,17 @@
+package com.example.barbershop.exception;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+
+public class ServiceBusyException extends RejectedExecutionException {
+    private final transient Duration retryAfter;
+
+    public ServiceBusyException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -13,6 +13,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class VisitCounterFilter implements Filter {
 
+    private static final String USER_ID_HEADER = "X-User-Id";
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
     private final VisitCounter visitCounter;
 
     public VisitCounterFilter(VisitCounter visitCounter) {
@@ -25,13 +28,23 @@ public class VisitCounterFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         String requestUri = httpRequest.getRequestURI();
 
-        if (requestUri.startsWith("/barbers")) {
-            visitCounter.incrementVisit(requestUri);
-        }
-        if (requestUri.startsWith("/locations")) {
-            visitCounter.incrementVisit(requestUri);
+        if (requestUri.startsWith("/barbers") || requestUri.startsWith("/locations")) {
+            visitCounter.recordVisit(requestUri, visitorId(httpRequest));
         }
 
         chain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private static String visitorId(HttpServletRequest request) {
+        String userId = request.getHeader(USER_ID_HEADER);
+        if (userId != null && !userId.isBlank()) {
+            return "user:" + userId.trim();
+        }
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            int comma = forwardedFor.indexOf(',');
+            return "ip:" + (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.barbershop.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+public class BatchingAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    private BlockingQueue<ILoggingEvent> queue;
+    private Thread worker;
+    private int queueSize = 8192;
+    private int batchSize = 256;
+    private int discardingThreshold = -1;
+    private Level dropLevel = Level.INFO;
+    private boolean neverBlock;
+    private int maxFlushTime = 1000;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (queueSize < 1 || batchSize < 1) {
+            addError("queueSize and batchSize must be positive");
+            return;
+        }
+        if (discardingThreshold < 0) {
+            discardingThreshold = queueSize / 5;
+        }
+        queue = new ArrayBlockingQueue<>(queueSize);
+        worker = new Thread(this::drain, "AsyncLogWriter-" + getName());
+        worker.setDaemon(true);
+        super.start();
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        worker.interrupt();
+        try {
+            worker.join(maxFlushTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            // The writer stops the attached appenders itself once it is done.
+            addWarn("Log writer did not finish within " + maxFlushTime + " ms, "
+                    + queue.size() + " events still queued");
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        boolean droppable = event.getLevel().toInt() <= dropLevel.toInt();
+        if (droppable && queue.remainingCapacity() < discardingThreshold) {
+            dropped.increment();
+            return;
+        }
+        event.prepareForDeferredProcessing();
+        if (neverBlock || droppable) {
+            if (!queue.offer(event)) {
+                dropped.increment();
+            }
+            return;
+        }
+        try {
+            queue.put(event);
+        } catch (InterruptedException e) {
+            dropped.increment();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        List<ILoggingEvent> batch = new ArrayList<>(batchSize);
+        while (isStarted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    private void write(List<ILoggingEvent> batch) {
+        for (ILoggingEvent event : batch) {
+            appenders.appendLoopOnAppenders(event);
+        }
+        appended.add(batch.size());
+        batches.increment();
+        batch.clear();
+        flushAttached();
+    }
+
+    private void flushAttached() {
+        Iterator<Appender<ILoggingEvent>> iterator = appenders.iteratorForAppenders();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof OutputStreamAppender<ILoggingEvent> target
+                    && !target.isImmediateFlush()) {
+                OutputStream stream = target.getOutputStream();
+                try {
+                    if (stream != null) {
+                        stream.flush();
+                    }
+                } catch (IOException e) {
+                    addError("Failed to flush " + target.getName(), e);
+                }
+            }
+        }
+    }
+
+    public long getAppendedCount() {
+        return appended.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public int getQueuedCount() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setDiscardingThreshold(int discardingThreshold) {
+        this.discardingThreshold = discardingThreshold;
+    }
+
+    public void setDropLevel(String dropLevel) {
+        this.dropLevel = Level.toLevel(dropLevel, Level.INFO);
+    }
+
+    public void setNeverBlock(boolean neverBlock) {
+        this.neverBlock = neverBlock;
+    }
+
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
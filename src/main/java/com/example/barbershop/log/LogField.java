@@ -1,32 +1,107 @@
 package com.example.barbershop.log;
 
 import com.example.barbershop.model.LogFileTask;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.SneakyThrows;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 @Service
 public class LogField {
 
+    private static final Logger logger = LoggerFactory.getLogger(LogField.class);
+    private static final Path LOGS_DIRECTORY = Paths.get("logs");
+    private static final String REGISTRY_FILE = "log-tasks.json";
+    private static final String TASK_FILE_PREFIX = "task-";
+    private static final int TASK_ID_END = TASK_FILE_PREFIX.length() + 36;
+
     final Map<String, LogFileTask> tasks = new ConcurrentHashMap<>();
+    private final Map<String, String> taskIdsByRequest = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
     private final LogFileGenerator generatorService;
+    private final ObjectMapper objectMapper;
+    private final int maxTasks;
+    private final Duration taskTtl;
+    private final Path logsDirectory;
+    private final Path registryFile;
 
     @Autowired
-    public LogField(LogFileGenerator generatorService) {
+    public LogField(LogFileGenerator generatorService, ObjectMapper objectMapper,
+                    @Value("${logs.tasks.max-size:100}") int maxTasks,
+                    @Value("${logs.tasks.ttl:PT1H}") Duration taskTtl) {
+        this(generatorService, objectMapper, maxTasks, taskTtl, LOGS_DIRECTORY);
+    }
+
+    LogField(LogFileGenerator generatorService, ObjectMapper objectMapper, int maxTasks,
+             Duration taskTtl, Path logsDirectory) {
         this.generatorService = generatorService;
+        this.objectMapper = objectMapper;
+        this.maxTasks = maxTasks;
+        this.taskTtl = taskTtl;
+        this.logsDirectory = logsDirectory;
+        this.registryFile = logsDirectory.resolve(REGISTRY_FILE);
     }
 
     @SneakyThrows
-    public String createLogFileTask(String date, String level) {
-        String taskId = UUID.randomUUID().toString();
-        LogFileTask task = new LogFileTask(taskId);
-        tasks.put(taskId, task);
-        generatorService.generateLogFileAsync(task, date, level);
-        return taskId;
+    public String createLogFileTask(String date, String level, String loggerName) {
+        String requestKey = requestKey(date, level, loggerName);
+        LogFileTask task;
+        lock.lock();
+        try {
+            LogFileTask existing = findReusable(requestKey);
+            if (existing != null) {
+                logger.info("Reusing log file task {} for {}", existing.getTaskId(), requestKey);
+                return existing.getTaskId();
+            }
+
+            task = new LogFileTask(UUID.randomUUID().toString());
+            task.setDate(date);
+            task.setLevel(level);
+            task.setLoggerName(loggerName);
+            tasks.put(task.getTaskId(), task);
+            taskIdsByRequest.put(requestKey, task.getTaskId());
+            evictOverflow();
+            saveRegistry();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            generatorService.generateLogFileAsync(task)
+                    .whenComplete((result, error) -> saveRegistry());
+        } catch (TaskRejectedException e) {
+            lock.lock();
+            try {
+                remove(task);
+                saveRegistry();
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+        return task.getTaskId();
     }
 
     public LogFileTask getTaskStatus(String taskId) {
@@ -40,4 +115,135 @@ public class LogField {
         }
         return null;
     }
-}
\ No newline at end of file
+
+    @Scheduled(fixedDelayString = "${logs.tasks.cleanup-interval:PT10M}",
+            initialDelayString = "${logs.tasks.cleanup-interval:PT10M}")
+    public void cleanUp() {
+        Instant expiry = Instant.now().minus(taskTtl);
+        lock.lock();
+        try {
+            List<LogFileTask> expired = tasks.values().stream()
+                    .filter(LogFileTask::isFinished)
+                    .filter(task -> task.getCompletedAt() == null
+                            || task.getCompletedAt().isBefore(expiry))
+                    .toList();
+            expired.forEach(this::remove);
+            if (!expired.isEmpty()) {
+                logger.info("Removed {} expired log file tasks", expired.size());
+                saveRegistry();
+            }
+        } finally {
+            lock.unlock();
+        }
+        deleteOrphanedOutputs();
+    }
+
+    @PostConstruct
+    void loadRegistry() {
+        if (!Files.exists(registryFile)) {
+            return;
+        }
+        try {
+            List<LogFileTask> saved = objectMapper.readValue(registryFile.toFile(),
+                    new TypeReference<List<LogFileTask>>() { });
+            for (LogFileTask task : saved) {
+                if (!task.isFinished()) {
+                    task.setStatus("FAILED");
+                    task.setErrorMessage("Task was interrupted by a restart");
+                    task.setCompletedAt(Instant.now());
+                }
+                tasks.put(task.getTaskId(), task);
+                if ("COMPLETED".equals(task.getStatus())) {
+                    taskIdsByRequest.put(requestKey(task.getDate(), task.getLevel(),
+                            task.getLoggerName()), task.getTaskId());
+                }
+            }
+            logger.info("Loaded {} log file tasks from {}", saved.size(), registryFile);
+        } catch (IOException e) {
+            logger.warn("Failed to load log task registry: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void saveRegistry() {
+        lock.lock();
+        try {
+            Files.createDirectories(logsDirectory);
+            objectMapper.writeValue(registryFile.toFile(), new ArrayList<>(tasks.values()));
+        } catch (IOException e) {
+            logger.warn("Failed to save log task registry: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private LogFileTask findReusable(String requestKey) throws IOException {
+        String taskId = taskIdsByRequest.get(requestKey);
+        LogFileTask task = taskId == null ? null : tasks.get(taskId);
+        if (task == null || "FAILED".equals(task.getStatus())) {
+            return null;
+        }
+        if (!task.isFinished()) {
+            return task;
+        }
+
+        Path source = logsDirectory.resolve("barbershop-" + task.getDate() + ".log");
+        boolean unchanged = Files.exists(source)
+                && Files.size(source) == task.getSourceSize()
+                && Files.getLastModifiedTime(source).toMillis() == task.getSourceLastModified()
+                && task.getFilePath() != null && Files.exists(task.getFilePath());
+        return unchanged ? task : null;
+    }
+
+    private void evictOverflow() {
+        if (tasks.size() <= maxTasks) {
+            return;
+        }
+        tasks.values().stream()
+                .filter(LogFileTask::isFinished)
+                .sorted(Comparator.comparing(LogFileTask::getCreatedAt))
+                .limit((long) tasks.size() - maxTasks)
+                .toList()
+                .forEach(this::remove);
+    }
+
+    private void remove(LogFileTask task) {
+        tasks.remove(task.getTaskId());
+        taskIdsByRequest.values().remove(task.getTaskId());
+        deleteOutput(task.getFilePath());
+    }
+
+    private void deleteOrphanedOutputs() {
+        if (!Files.isDirectory(logsDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> outputs = Files.newDirectoryStream(logsDirectory,
+                "task-*.log")) {
+            for (Path output : outputs) {
+                String name = output.getFileName().toString();
+                String taskId = name.length() > TASK_ID_END
+                        ? name.substring(TASK_FILE_PREFIX.length(), TASK_ID_END) : "";
+                if (!tasks.containsKey(taskId)) {
+                    deleteOutput(output);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to scan generated log files: {}", e.getMessage());
+        }
+    }
+
+    private void deleteOutput(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Failed to delete generated log file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static String requestKey(String date, String level, String loggerName) {
+        return date + "|" + level.toUpperCase() + "|" + (loggerName == null ? "" : loggerName);
+    }
+}
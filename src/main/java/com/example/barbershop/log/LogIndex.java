@@ -0,0 +1,173 @@
+package com.example.barbershop.log;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Locale;
+
+class LogIndex {
+
+    static final String[] LEVELS = {"TRACE", "DEBUG", "INFO", "WARN", "ERROR"};
+    static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int MAGIC = 0x4C4F4758;
+    private static final int VERSION = 1;
+
+    private final long[] minuteOffsets = new long[MINUTES_PER_DAY];
+    private final OffsetList[] levelOffsets = new OffsetList[LEVELS.length];
+    private long indexedLength;
+    private long lastModified;
+
+    LogIndex() {
+        Arrays.fill(minuteOffsets, -1);
+        for (int i = 0; i < levelOffsets.length; i++) {
+            levelOffsets[i] = new OffsetList();
+        }
+    }
+
+    static int levelOrdinal(String level) {
+        String upper = level.trim().toUpperCase(Locale.ROOT);
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (LEVELS[i].equals(upper)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    long getIndexedLength() {
+        return indexedLength;
+    }
+
+    void setIndexedLength(long indexedLength) {
+        this.indexedLength = indexedLength;
+    }
+
+    long getLastModified() {
+        return lastModified;
+    }
+
+    void setLastModified(long lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    void addLine(ByteBuffer window, long windowOffset, int start, int end) {
+        long offset = windowOffset + start;
+        if (LogLineMatcher.hasTimestamp(window, start, end)) {
+            int minute = LogLineMatcher.minuteOfDay(window, start);
+            if (minuteOffsets[minute] < 0) {
+                minuteOffsets[minute] = offset;
+            }
+            int level = LogLineMatcher.levelOrdinal(window, start, end);
+            if (level >= 0) {
+                levelOffsets[level].add(offset);
+            }
+        }
+    }
+
+    long offsetOfMinute(int minute) {
+        for (int i = minute; i < MINUTES_PER_DAY; i++) {
+            if (minuteOffsets[i] >= 0) {
+                return minuteOffsets[i];
+            }
+        }
+        return indexedLength;
+    }
+
+    long[] levelOffsets(int level, long from, long to) {
+        return levelOffsets[level].range(from, to);
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(indexedLength);
+        out.writeLong(lastModified);
+        for (long offset : minuteOffsets) {
+            out.writeLong(offset);
+        }
+        for (OffsetList list : levelOffsets) {
+            out.writeInt(list.size);
+            long previous = 0;
+            for (int i = 0; i < list.size; i++) {
+                writeVarLong(out, list.values[i] - previous);
+                previous = list.values[i];
+            }
+        }
+    }
+
+    static LogIndex readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            return null;
+        }
+        LogIndex index = new LogIndex();
+        index.indexedLength = in.readLong();
+        index.lastModified = in.readLong();
+        for (int i = 0; i < MINUTES_PER_DAY; i++) {
+            index.minuteOffsets[i] = in.readLong();
+        }
+        for (OffsetList list : index.levelOffsets) {
+            int size = in.readInt();
+            long previous = 0;
+            for (int i = 0; i < size; i++) {
+                previous += readVarLong(in);
+                list.add(previous);
+            }
+        }
+        return index;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static class OffsetList {
+        private long[] values = new long[256];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] range(long from, long to) {
+            int start = lowerBound(from);
+            int end = lowerBound(to);
+            return Arrays.copyOfRange(values, start, end);
+        }
+
+        private int lowerBound(long value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.barbershop.log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+@Service
+public class LogIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogIndexService.class);
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final int MAX_INDEX_WINDOW = 1 << 28;
+
+    private final Map<Path, LogIndex> indexes = new ConcurrentHashMap<>();
+
+    public void query(Path logFile, String levels, String loggerName, LocalTime from,
+                      LocalTime to, OutputStream out) throws IOException {
+        LogLineMatcher matcher = LogLineMatcher.of(levels, loggerName);
+        if (from == null && to == null && !matcher.filtersLevels()) {
+            matcher.copyMatching(logFile, out);
+            return;
+        }
+
+        LogIndex index = indexFor(logFile);
+        long start;
+        long end;
+        synchronized (index) {
+            start = from == null ? 0 : index.offsetOfMinute(minuteOf(from));
+            end = to == null || minuteOf(to) + 1 >= LogIndex.MINUTES_PER_DAY
+                    ? index.getIndexedLength() : index.offsetOfMinute(minuteOf(to) + 1);
+        }
+        if (start >= end) {
+            return;
+        }
+
+        if (!matcher.filtersLevels()) {
+            matcher.copyMatching(logFile, start, end, out);
+            return;
+        }
+
+        long[] offsets;
+        synchronized (index) {
+            offsets = Arrays.stream(levels.split(","))
+                    .mapToInt(LogIndex::levelOrdinal)
+                    .filter(level -> level >= 0)
+                    .distinct()
+                    .mapToObj(level -> index.levelOffsets(level, start, end))
+                    .flatMapToLong(LongStream::of)
+                    .sorted()
+                    .toArray();
+        }
+        matcher.copyMatchingAt(logFile, offsets, end, out);
+    }
+
+    LogIndex indexFor(Path logFile) throws IOException {
+        Path key = logFile.toAbsolutePath().normalize();
+        LogIndex index = indexes.computeIfAbsent(key, this::loadSidecar);
+        synchronized (index) {
+            long size = Files.size(logFile);
+            if (size < index.getIndexedLength()) {
+                indexes.remove(key, index);
+                return indexFor(logFile);
+            }
+            if (size > index.getIndexedLength()) {
+                extend(logFile, index, size);
+                index.setLastModified(Files.getLastModifiedTime(logFile).toMillis());
+                if (isRolled(logFile)) {
+                    writeSidecar(logFile, index);
+                }
+            }
+        }
+        return index;
+    }
+
+    private void extend(Path logFile, LogIndex index, long size) throws IOException {
+        long started = System.nanoTime();
+        long position = index.getIndexedLength();
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            while (position < size) {
+                int windowSize = (int) Math.min(size - position, MAX_INDEX_WINDOW);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                        position, windowSize);
+                int lineStart = 0;
+                for (int i = 0; i < windowSize; i++) {
+                    if (window.get(i) == '\n') {
+                        index.addLine(window, position, lineStart, i);
+                        lineStart = i + 1;
+                    }
+                }
+                if (lineStart == 0) {
+                    break;
+                }
+                position += lineStart;
+            }
+        }
+        logger.debug("Indexed {} bytes of {} in {} ms", position - index.getIndexedLength(),
+                logFile.getFileName(), (System.nanoTime() - started) / 1_000_000);
+        index.setIndexedLength(position);
+    }
+
+    private LogIndex loadSidecar(Path logFile) {
+        Path sidecar = sidecarPath(logFile);
+        if (Files.exists(sidecar)) {
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(sidecar)))) {
+                LogIndex index = LogIndex.readFrom(in);
+                if (index != null && index.getLastModified()
+                        == Files.getLastModifiedTime(logFile).toMillis()) {
+                    return index;
+                }
+            } catch (IOException e) {
+                logger.warn("Ignoring unreadable log index {}: {}", sidecar, e.getMessage());
+            }
+        }
+        return new LogIndex();
+    }
+
+    private void writeSidecar(Path logFile, LogIndex index) {
+        Path sidecar = sidecarPath(logFile);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(sidecar)))) {
+            index.writeTo(out);
+        } catch (IOException e) {
+            logger.warn("Failed to write log index {}: {}", sidecar, e.getMessage());
+        }
+    }
+
+    private static Path sidecarPath(Path logFile) {
+        return logFile.resolveSibling(logFile.getFileName() + INDEX_SUFFIX);
+    }
+
+    private static boolean isRolled(Path logFile) {
+        String name = logFile.getFileName().toString();
+        int dateStart = name.indexOf('-') + 1;
+        if (dateStart == 0 || name.length() < dateStart + 10) {
+            return false;
+        }
+        String date = name.substring(dateStart, dateStart + 10);
+        return date.compareTo(LocalDate.now().toString()) < 0;
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
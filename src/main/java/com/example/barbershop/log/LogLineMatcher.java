@@ -0,0 +1,302 @@
+package com.example.barbershop.log;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Locale;
+
+public final class LogLineMatcher {
+
+    public static final String ALL_LEVELS = "all";
+
+    // Layout of logback-spring.xml: "yyyy-MM-dd HH:mm:ss.SSS %-5level %logger{36} - %msg"
+    private static final int TIMESTAMP_LENGTH = 23;
+    private static final int LEVEL_OFFSET = TIMESTAMP_LENGTH + 1;
+    private static final int MAX_MAPPED_WINDOW = 1 << 28;
+    private static final byte SPACE = ' ';
+    private static final byte NEWLINE = '\n';
+    private static final byte[][] LEVEL_TOKENS = Arrays.stream(LogIndex.LEVELS)
+            .map(level -> level.getBytes(StandardCharsets.US_ASCII))
+            .toArray(byte[][]::new);
+
+    private final byte[][] levels;
+    private final byte[] loggerPrefix;
+
+    private LogLineMatcher(byte[][] levels, byte[] loggerPrefix) {
+        this.levels = levels;
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public static LogLineMatcher of(String levels, String loggerPrefix) {
+        byte[][] levelTokens = null;
+        if (levels != null && !levels.isBlank() && !ALL_LEVELS.equalsIgnoreCase(levels.trim())) {
+            levelTokens = Arrays.stream(levels.split(","))
+                    .map(String::trim)
+                    .filter(level -> !level.isEmpty())
+                    .map(level -> level.toUpperCase(Locale.ROOT)
+                            .getBytes(StandardCharsets.US_ASCII))
+                    .toArray(byte[][]::new);
+        }
+        byte[] prefix = loggerPrefix == null || loggerPrefix.isBlank()
+                ? null : loggerPrefix.trim().getBytes(StandardCharsets.UTF_8);
+        return new LogLineMatcher(levelTokens, prefix);
+    }
+
+    public boolean acceptsEverything() {
+        return levels == null && loggerPrefix == null;
+    }
+
+    public boolean filtersLevels() {
+        return levels != null;
+    }
+
+    public boolean matches(String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        return matches(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+
+    public boolean matches(ByteBuffer buffer, int start, int end) {
+        if (acceptsEverything()) {
+            return true;
+        }
+        if (!hasTimestamp(buffer, start, end)) {
+            return false;
+        }
+
+        int levelStart = start + LEVEL_OFFSET;
+        int levelEnd = levelStart;
+        while (levelEnd < end && buffer.get(levelEnd) != SPACE) {
+            levelEnd++;
+        }
+        if (levelEnd == end || (levels != null && !matchesLevel(buffer, levelStart, levelEnd))) {
+            return false;
+        }
+        if (loggerPrefix == null) {
+            return true;
+        }
+
+        int loggerStart = levelEnd;
+        while (loggerStart < end && buffer.get(loggerStart) == SPACE) {
+            loggerStart++;
+        }
+        return startsWith(buffer, loggerStart, end, loggerPrefix);
+    }
+
+    public void copyMatching(Path source, OutputStream out) throws IOException {
+        copyMatching(source, 0, Long.MAX_VALUE, out);
+    }
+
+    public void copyMatching(Path source, long from, long to, OutputStream out)
+            throws IOException {
+        copyMatching(source, from, to, out, MAX_MAPPED_WINDOW);
+    }
+
+    void copyMatching(Path source, long from, long to, OutputStream out, int maxWindow)
+            throws IOException {
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            long end = Math.min(to, channel.size());
+            if (acceptsEverything()) {
+                long position = from;
+                while (position < end) {
+                    position += channel.transferTo(position, end - position, target);
+                }
+                return;
+            }
+
+            long position = from;
+            while (position < end) {
+                long windowSize = Math.min(end - position, maxWindow);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                        position, windowSize);
+                boolean lastWindow = position + windowSize == end;
+                int consumed = copyMatchingLines(window, (int) windowSize, lastWindow, target);
+                position = consumed > 0 ? position + consumed
+                        : copyLongLine(channel, window, position, end, maxWindow, target);
+            }
+        }
+    }
+
+    /**
+     * Copies or skips one line that does not fit in a window, deciding on its first window,
+     * which holds the timestamp, level and logger. Returns the position after the line.
+     */
+    private long copyLongLine(FileChannel channel, ByteBuffer head, long position, long end,
+                              int maxWindow, WritableByteChannel target) throws IOException {
+        boolean matching = matches(head, 0, head.limit());
+        while (position < end) {
+            long windowSize = Math.min(end - position, maxWindow);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                    position, windowSize);
+            int newline = indexOf(window, 0, (int) windowSize, NEWLINE);
+            int length = newline < 0 ? (int) windowSize : newline + 1;
+            if (matching) {
+                write(window, 0, length, target);
+            }
+            position += length;
+            if (newline >= 0) {
+                return position;
+            }
+        }
+        if (matching) {
+            target.write(ByteBuffer.wrap(new byte[] {NEWLINE}));
+        }
+        return position;
+    }
+
+    public void copyMatchingAt(Path source, long[] lineOffsets, long to, OutputStream out)
+            throws IOException {
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            long end = Math.min(to, channel.size());
+            int next = 0;
+            while (next < lineOffsets.length && lineOffsets[next] < end) {
+                long windowStart = lineOffsets[next];
+                int windowSize = (int) Math.min(end - windowStart, MAX_MAPPED_WINDOW);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                        windowStart, windowSize);
+                int first = next;
+                while (next < lineOffsets.length
+                        && lineOffsets[next] - windowStart < windowSize) {
+                    int lineStart = (int) (lineOffsets[next] - windowStart);
+                    int lineEnd = indexOf(window, lineStart, windowSize, NEWLINE);
+                    if (lineEnd < 0) {
+                        if (next > first) {
+                            break;
+                        }
+                        lineEnd = windowSize - 1;
+                    }
+                    if (matches(window, lineStart, lineEnd)) {
+                        write(window, lineStart, lineEnd + 1, target);
+                    }
+                    next++;
+                }
+            }
+        }
+    }
+
+    private int copyMatchingLines(ByteBuffer window, int limit, boolean lastWindow,
+                                  WritableByteChannel target) throws IOException {
+        int lineStart = 0;
+        int runStart = -1;
+        while (lineStart < limit) {
+            int lineEnd = indexOf(window, lineStart, limit, NEWLINE);
+            if (lineEnd < 0) {
+                if (!lastWindow) {
+                    break;
+                }
+                lineEnd = limit;
+            }
+            int contentEnd = lineEnd > lineStart && window.get(lineEnd - 1) == '\r'
+                    ? lineEnd - 1 : lineEnd;
+            if (matches(window, lineStart, contentEnd)) {
+                if (runStart < 0) {
+                    runStart = lineStart;
+                }
+            } else if (runStart >= 0) {
+                write(window, runStart, lineStart, target);
+                runStart = -1;
+            }
+            lineStart = Math.min(lineEnd + 1, limit);
+        }
+        if (runStart >= 0) {
+            write(window, runStart, lineStart, target);
+            if (window.get(lineStart - 1) != NEWLINE) {
+                target.write(ByteBuffer.wrap(new byte[] {NEWLINE}));
+            }
+        }
+        return lineStart;
+    }
+
+    private boolean matchesLevel(ByteBuffer buffer, int start, int end) {
+        for (byte[] level : levels) {
+            if (level.length == end - start && startsWith(buffer, start, end, level)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean hasTimestamp(ByteBuffer buffer, int start, int end) {
+        return end - start > LEVEL_OFFSET && isTimestamp(buffer, start)
+                && buffer.get(start + TIMESTAMP_LENGTH) == SPACE;
+    }
+
+    static int minuteOfDay(ByteBuffer buffer, int start) {
+        int hour = (buffer.get(start + 11) - '0') * 10 + buffer.get(start + 12) - '0';
+        int minute = (buffer.get(start + 14) - '0') * 10 + buffer.get(start + 15) - '0';
+        return Math.min(hour * 60 + minute, LogIndex.MINUTES_PER_DAY - 1);
+    }
+
+    static int levelOrdinal(ByteBuffer buffer, int start, int end) {
+        int levelStart = start + LEVEL_OFFSET;
+        int levelEnd = levelStart;
+        while (levelEnd < end && buffer.get(levelEnd) != SPACE) {
+            levelEnd++;
+        }
+        for (int i = 0; i < LEVEL_TOKENS.length; i++) {
+            if (LEVEL_TOKENS[i].length == levelEnd - levelStart
+                    && startsWith(buffer, levelStart, levelEnd, LEVEL_TOKENS[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isTimestamp(ByteBuffer buffer, int start) {
+        return isDigits(buffer, start, 4) && buffer.get(start + 4) == '-'
+                && isDigits(buffer, start + 5, 2) && buffer.get(start + 7) == '-'
+                && isDigits(buffer, start + 8, 2) && buffer.get(start + 10) == SPACE
+                && isDigits(buffer, start + 11, 2) && buffer.get(start + 13) == ':'
+                && isDigits(buffer, start + 14, 2) && buffer.get(start + 16) == ':'
+                && isDigits(buffer, start + 17, 2) && buffer.get(start + 19) == '.'
+                && isDigits(buffer, start + 20, 3);
+    }
+
+    private static boolean isDigits(ByteBuffer buffer, int start, int count) {
+        for (int i = start; i < start + count; i++) {
+            byte b = buffer.get(i);
+            if (b < '0' || b > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(ByteBuffer buffer, int start, int end, byte[] prefix) {
+        if (end - start < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer.get(start + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(ByteBuffer buffer, int start, int end, byte value) {
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void write(ByteBuffer buffer, int start, int end,
+                              WritableByteChannel target) throws IOException {
+        ByteBuffer run = buffer.slice(start, end - start);
+        while (run.hasRemaining()) {
+            target.write(run);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.example.barbershop.log;
+
+import com.example.barbershop.exception.ValidationException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+@Service
+public class LogSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogSearchService.class);
+    private static final Path LOGS_DIRECTORY = Paths.get("logs");
+    private static final int MAX_DAYS = 31;
+    private static final int MAX_LIMIT = 10_000;
+    private static final int MAX_MAPPED_WINDOW = 1 << 28;
+    private static final int TIMESTAMP_LENGTH = 23;
+    private static final int CHUNK_ENTRIES = 256;
+
+    private final AsyncTaskExecutor executor;
+    private final Path logsDirectory;
+
+    @Autowired
+    public LogSearchService(@Qualifier("logSearchExecutor") AsyncTaskExecutor executor) {
+        this(executor, LOGS_DIRECTORY);
+    }
+
+    LogSearchService(AsyncTaskExecutor executor, Path logsDirectory) {
+        this.executor = executor;
+        this.logsDirectory = logsDirectory;
+    }
+
+    public static void validate(LocalDate from, LocalDate to, String query, boolean regex,
+                                int limit) {
+        if (to.isBefore(from)) {
+            throw new ValidationException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new ValidationException("Search range cannot exceed " + MAX_DAYS + " days");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        textFilter(query, regex);
+    }
+
+    public void search(LocalDate from, LocalDate to, String levels, String query, boolean regex,
+                       int limit, OutputStream out) throws IOException {
+        validate(from, to, query, regex, limit);
+        Predicate<String> textFilter = textFilter(query, regex);
+        LogLineMatcher matcher = LogLineMatcher.of(levels, null);
+
+        List<Path> files = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            Path file = logsDirectory.resolve("barbershop-" + date + ".log");
+            if (Files.exists(file)) {
+                files.add(file);
+            }
+        }
+
+        List<Cursor> cursors = new ArrayList<>();
+        try {
+            for (Path file : files) {
+                Cursor cursor = new Cursor(file, matcher, textFilter, limit);
+                cursors.add(cursor);
+                cursor.prefetch();
+            }
+            merge(cursors, limit, out);
+        } finally {
+            cursors.forEach(Cursor::cancel);
+        }
+    }
+
+    private static Predicate<String> textFilter(String query, boolean regex) {
+        if (query == null || query.isEmpty()) {
+            return entry -> true;
+        }
+        if (!regex) {
+            return entry -> entry.contains(query);
+        }
+        try {
+            Pattern pattern = Pattern.compile(query);
+            return entry -> pattern.matcher(entry).find();
+        } catch (PatternSyntaxException e) {
+            throw new ValidationException("Invalid search pattern: " + e.getDescription());
+        }
+    }
+
+    private static void merge(List<Cursor> cursors, int limit, OutputStream out)
+            throws IOException {
+        PriorityQueue<Head> heads = new PriorityQueue<>(Comparator
+                .comparing((Head head) -> head.key)
+                .thenComparingInt(head -> head.source));
+        try {
+            for (int i = 0; i < cursors.size(); i++) {
+                advance(heads, cursors.get(i), i);
+            }
+            int written = 0;
+            while (!heads.isEmpty() && written < limit) {
+                Head head = heads.poll();
+                out.write(head.entry.getBytes(StandardCharsets.UTF_8));
+                written++;
+                advance(heads, cursors.get(head.source), head.source);
+            }
+            out.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Log search interrupted", e);
+        }
+    }
+
+    private static void advance(PriorityQueue<Head> heads, Cursor cursor, int source)
+            throws IOException, InterruptedException {
+        String entry = cursor.next();
+        if (entry != null) {
+            heads.add(new Head(entry.substring(0, TIMESTAMP_LENGTH), entry, source));
+        }
+    }
+
+    /**
+     * Scans matching entries of a file from an entry boundary until the budget is reached,
+     * returning them with the boundary to resume from.
+     */
+    private static Chunk scan(Path file, long from, int budget, LogLineMatcher matcher,
+                              Predicate<String> textFilter) {
+        List<String> entries = new ArrayList<>();
+        Thread thread = Thread.currentThread();
+        long position = from;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            while (position < size && entries.size() < budget && !thread.isInterrupted()) {
+                int windowSize = (int) Math.min(size - position, MAX_MAPPED_WINDOW);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                        position, windowSize);
+                boolean lastWindow = position + windowSize == size;
+                int entryStart = -1;
+                boolean entryMatches = false;
+                int lineStart = 0;
+                while (lineStart < windowSize && entries.size() < budget
+                        && !thread.isInterrupted()) {
+                    int lineEnd = lineStart;
+                    while (lineEnd < windowSize && window.get(lineEnd) != '\n') {
+                        lineEnd++;
+                    }
+                    if (lineEnd == windowSize && !lastWindow) {
+                        break;
+                    }
+                    if (LogLineMatcher.hasTimestamp(window, lineStart, lineEnd)) {
+                        if (entryMatches) {
+                            emit(window, entryStart, lineStart, textFilter, entries);
+                        }
+                        entryStart = lineStart;
+                        entryMatches = matcher.matches(window, lineStart, lineEnd);
+                    }
+                    lineStart = Math.min(lineEnd + 1, windowSize);
+                }
+                if (entries.size() >= budget) {
+                    position += entryStart;
+                } else if (lastWindow || entryStart <= 0) {
+                    if (entryMatches) {
+                        emit(window, entryStart, lineStart, textFilter, entries);
+                    }
+                    position += lineStart > 0 ? lineStart : windowSize;
+                } else {
+                    position += entryStart;
+                }
+            }
+            return new Chunk(entries, position, position >= size);
+        } catch (IOException e) {
+            logger.warn("Failed to search log file {}: {}", file, e.getMessage());
+            return new Chunk(entries, position, true);
+        }
+    }
+
+    private static void emit(MappedByteBuffer window, int start, int end,
+                             Predicate<String> textFilter, List<String> entries) {
+        byte[] bytes = new byte[end - start];
+        window.get(start, bytes);
+        String entry = new String(bytes, StandardCharsets.UTF_8);
+        if (!entry.endsWith("\n")) {
+            entry = entry + "\n";
+        }
+        if (textFilter.test(entry)) {
+            entries.add(entry);
+        }
+    }
+
+    /**
+     * Matching entries of one file, read a chunk at a time. The next chunk is scanned on the
+     * executor while the merge consumes the current one; a chunk task never waits on the
+     * merge, so any number of files shares the pool without starving it.
+     */
+    private final class Cursor {
+        private final Path file;
+        private final LogLineMatcher matcher;
+        private final Predicate<String> textFilter;
+        private int remaining;
+        private long position;
+        private Iterator<String> entries = Collections.emptyIterator();
+        private Future<Chunk> pending;
+
+        private Cursor(Path file, LogLineMatcher matcher, Predicate<String> textFilter,
+                       int limit) {
+            this.file = file;
+            this.matcher = matcher;
+            this.textFilter = textFilter;
+            this.remaining = limit;
+        }
+
+        private void prefetch() {
+            long from = position;
+            int budget = Math.min(CHUNK_ENTRIES, remaining);
+            pending = executor.submit(() -> scan(file, from, budget, matcher, textFilter));
+        }
+
+        private String next() throws IOException, InterruptedException {
+            while (!entries.hasNext()) {
+                if (pending == null) {
+                    return null;
+                }
+                Chunk chunk;
+                try {
+                    chunk = pending.get();
+                } catch (ExecutionException e) {
+                    throw new IOException("Failed to search log file " + file, e.getCause());
+                }
+                pending = null;
+                entries = chunk.entries.iterator();
+                position = chunk.next;
+                remaining -= chunk.entries.size();
+                if (!chunk.last && remaining > 0) {
+                    prefetch();
+                }
+            }
+            return entries.next();
+        }
+
+        private void cancel() {
+            if (pending != null) {
+                pending.cancel(true);
+            }
+        }
+    }
+
+    private static final class Chunk {
+        private final List<String> entries;
+        private final long next;
+        private final boolean last;
+
+        private Chunk(List<String> entries, long next, boolean last) {
+            this.entries = entries;
+            this.next = next;
+            this.last = last;
+        }
+    }
+
+    private static final class Head {
+        private final String key;
+        private final String entry;
+        private final int source;
+
+        private Head(String key, String entry, int source) {
+            this.key = key;
+            this.entry = entry;
+            this.source = source;
+        }
+    }
+}
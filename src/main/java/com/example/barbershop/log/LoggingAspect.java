@@ -1,14 +1,26 @@
 package com.example.barbershop.log;
 
+import com.example.barbershop.config.TracingProperties;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
 @Aspect
@@ -16,61 +28,74 @@ import org.springframework.stereotype.Component;
 public class LoggingAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(LoggingAspect.class);
+    private static final String REPOSITORY_PACKAGE = "com.example.barbershop.repository";
 
-    @Before("execution(* com.example.barbershop.controller.*.*(..))")
-    public void logControllerBefore(JoinPoint joinPoint) {
-        if (logger.isInfoEnabled()) {
+    private final TracingProperties properties;
+    private final Map<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> entityTypes = new ConcurrentHashMap<>();
+
+    public LoggingAspect(TracingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Around("execution(* com.example.barbershop.controller.*.*(..))")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        TracingProperties.Mode mode = properties.getMode();
+        Endpoint endpoint = endpoint(joinPoint);
+        boolean traced = logger.isInfoEnabled() && mode != TracingProperties.Mode.OFF
+                && isSampled(mode, endpoint.key);
+        if (traced) {
             logger.info("Вход в метод контроллера: {} с аргументами: {}",
-                    joinPoint.getSignature().toShortString(), joinPoint.getArgs());
+                    endpoint.signature, render(mode, joinPoint.getArgs()));
         }
-    }
 
-    @AfterReturning(pointcut = "execution(* com.example.barbershop.controller.*.*(..))",
-            returning = "result")
-    public void logControllerAfterReturning(JoinPoint joinPoint, Object result) {
-        if (logger.isInfoEnabled()) {
-            logger.info("Выход из метода контроллера: {} с результатом: {}",
-                    joinPoint.getSignature().toShortString(), result);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable error) {
+            if (logger.isErrorEnabled()) {
+                logger.error("Ошибка в методе контроллера: {} с причиной: {}",
+                        endpoint.signature, error.getMessage());
+            }
+            throw error;
         }
-    }
 
-    @AfterThrowing(pointcut = "execution(* com.example.barbershop.controller.*.*(..))",
-            throwing = "error")
-    public void logControllerError(JoinPoint joinPoint, Throwable error) {
-        if (logger.isErrorEnabled()) {
-            logger.error("Ошибка в методе контроллера: {} с причиной: {}",
-                    joinPoint.getSignature().toShortString(), error.getMessage());
+        if (traced) {
+            logger.info("Выход из метода контроллера: {} с результатом: {}",
+                    endpoint.signature, render(mode, result));
         }
+        return result;
     }
 
     @Before("execution(* com.example.barbershop.repository.*.findById(..))")
     public void logDbFindBefore(JoinPoint joinPoint) {
-        Object id = joinPoint.getArgs()[0];
-        String entityType = getEntityTypeFromRepository(joinPoint
-                .getTarget().getClass().getSimpleName());
-        logger.info("Попытка получить {} с ID {} из базы данных", entityType, id);
+        if (logger.isInfoEnabled()) {
+            logger.info("Попытка получить {} с ID {} из базы данных",
+                    entityType(joinPoint), joinPoint.getArgs()[0]);
+        }
     }
 
     @AfterReturning(pointcut = "execution(* com.example.barbershop.repository.*.findById(..))",
             returning = "result")
     public void logDbFindAfterReturning(JoinPoint joinPoint, Optional<?> result) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
         Object id = joinPoint.getArgs()[0];
-        String entityType = getEntityTypeFromRepository(joinPoint
-                .getTarget().getClass().getSimpleName());
         if (result.isPresent()) {
-            logger.info("{} с ID {} успешно получен из базы данных", entityType, id);
+            logger.info("{} с ID {} успешно получен из базы данных", entityType(joinPoint), id);
         } else {
-            logger.info("{} с ID {} не найден в базе данных", entityType, id);
+            logger.info("{} с ID {} не найден в базе данных", entityType(joinPoint), id);
         }
     }
 
     @AfterReturning(pointcut = "execution(* com.example.barbershop.repository.*.findAll())",
             returning = "result")
     public void logDbFindAllAfterReturning(JoinPoint joinPoint, List<?> result) {
-        String entityType = getEntityTypeFromRepository(joinPoint
-                .getTarget().getClass().getSimpleName());
-        logger.info("Все {} успешно получены из базы данных, количество: {}",
-                entityType, result.size());
+        if (logger.isInfoEnabled()) {
+            logger.info("Все {} успешно получены из базы данных, количество: {}",
+                    entityType(joinPoint), result.size());
+        }
     }
 
     @AfterThrowing(pointcut = "execution(* com.example.barbershop.service.*.*(..))",
@@ -80,7 +105,39 @@ public class LoggingAspect {
                 joinPoint.getSignature().getName(), error.getMessage());
     }
 
-    private String getEntityTypeFromRepository(String repositoryName) {
+    private boolean isSampled(TracingProperties.Mode mode, String endpoint) {
+        if (mode == TracingProperties.Mode.FULL) {
+            return true;
+        }
+        double rate = properties.sampleRateFor(endpoint);
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private Object render(TracingProperties.Mode mode, Object value) {
+        if (mode == TracingProperties.Mode.FULL) {
+            return value;
+        }
+        return new CappedRendering(value, properties.getMaxRenderLength());
+    }
+
+    private Endpoint endpoint(JoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return endpoints.computeIfAbsent(method, Endpoint::new);
+    }
+
+    private String entityType(JoinPoint joinPoint) {
+        return entityTypes.computeIfAbsent(joinPoint.getThis().getClass(),
+                LoggingAspect::getEntityTypeFromRepository);
+    }
+
+    private static String getEntityTypeFromRepository(Class<?> proxyClass) {
+        String repositoryName = proxyClass.getSimpleName();
+        for (Class<?> type : proxyClass.getInterfaces()) {
+            if (type.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                repositoryName = type.getSimpleName();
+                break;
+            }
+        }
         if (repositoryName.contains("Barber")) {
             return "Барбер";
         }
@@ -92,4 +149,70 @@ public class LoggingAspect {
         }
         return "Неизвестный тип";
     }
-}
\ No newline at end of file
+
+    private static final class Endpoint {
+        private final String key;
+        private final String signature;
+
+        private Endpoint(Method method) {
+            this.key = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+            this.signature = key + "(..)";
+        }
+    }
+
+    private static final class CappedRendering {
+        private final Object value;
+        private final int maxLength;
+
+        private CappedRendering(Object value, int maxLength) {
+            this.value = value;
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder out = new StringBuilder();
+            append(out, value);
+            if (out.length() > maxLength) {
+                out.setLength(maxLength);
+                out.append("...");
+            }
+            return out.toString();
+        }
+
+        private void append(StringBuilder out, Object item) {
+            if (out.length() > maxLength) {
+                return;
+            }
+            if (item instanceof ResponseEntity<?> response) {
+                out.append(response.getStatusCode().value()).append(' ');
+                append(out, response.getBody());
+            } else if (item instanceof byte[] bytes) {
+                out.append("byte[").append(bytes.length).append(']');
+            } else if (item instanceof Collection<?> collection) {
+                out.append(collection.getClass().getSimpleName())
+                        .append("(size=").append(collection.size()).append(")[");
+                Iterator<?> iterator = collection.iterator();
+                while (iterator.hasNext() && out.length() <= maxLength) {
+                    append(out, iterator.next());
+                    if (iterator.hasNext()) {
+                        out.append(", ");
+                    }
+                }
+                out.append(']');
+            } else if (item != null && item.getClass().isArray()) {
+                int length = Array.getLength(item);
+                out.append('[');
+                for (int i = 0; i < length && out.length() <= maxLength; i++) {
+                    if (i > 0) {
+                        out.append(", ");
+                    }
+                    append(out, Array.get(item, i));
+                }
+                out.append(']');
+            } else {
+                out.append(item);
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.barbershop.mapper;
 
 import com.example.barbershop.dto.BarberDto;
 import com.example.barbershop.model.Barber;
+import com.example.barbershop.model.DayMask;
 import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
 
@@ -26,7 +27,7 @@ public class BarberMapper {
         BarberDto dto = new BarberDto();
         dto.setBarberId(barber.getBarberId());
         dto.setName(barber.getName());
-        dto.setAvailableDays(barber.getAvailableDays());
+        dto.setAvailableDays(DayMask.copy(barber.getAvailableDays()));
         dto.setStartTime(barber.getStartTime());
         dto.setEndTime(barber.getEndTime());
         if (barber.getLocation() != null) {
@@ -39,7 +40,7 @@ public class BarberMapper {
         Barber barber = new Barber();
         barber.setBarberId(dto.getBarberId());
         barber.setName(dto.getName());
-        barber.setAvailableDays(dto.getAvailableDays());
+        barber.setAvailableDays(DayMask.copy(dto.getAvailableDays()));
         barber.setStartTime(dto.getStartTime());
         barber.setEndTime(dto.getEndTime());
         return barber;
@@ -14,6 +14,8 @@ public class LocationMapper {
         dto.setLocationId(location.getLocationId());
         dto.setName(location.getName());
         dto.setAddress(location.getAddress());
+        dto.setLatitude(location.getLatitude());
+        dto.setLongitude(location.getLongitude());
         dto.setBarbers(location.getBarbers().stream()
                 .map(Barber::getName)
                 .collect(Collectors.toSet()));
@@ -25,6 +27,8 @@ public class LocationMapper {
         location.setLocationId(dto.getLocationId());
         location.setName(dto.getName());
         location.setAddress(dto.getAddress());
+        location.setLatitude(dto.getLatitude());
+        location.setLongitude(dto.getLongitude());
         return location;
     }
 }
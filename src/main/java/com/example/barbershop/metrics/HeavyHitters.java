@@ -0,0 +1,217 @@
+package com.example.barbershop.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving top-k sketch: keeps at most {@code capacity} keys and, when a new key
+ * arrives while full, replaces the smallest one and inherits its count as the error
+ * bound. Keys are spread by hash over independently locked stripes, each a stream-summary
+ * of its share of the capacity, so offers on different stripes do not contend and every
+ * offer is O(1). A key seen more than {@code stripeTotal / stripeCapacity} times is
+ * guaranteed to be kept, which is {@code total / capacity} when keys spread evenly.
+ */
+public final class HeavyHitters {
+
+    // Smaller stripes would evict each other's keys too eagerly to be worth the concurrency.
+    private static final int MIN_STRIPE_CAPACITY = 16;
+
+    private final Stripe[] stripes;
+
+    public HeavyHitters(int capacity) {
+        this(capacity, Math.min(Runtime.getRuntime().availableProcessors(),
+                capacity / MIN_STRIPE_CAPACITY));
+    }
+
+    HeavyHitters(int capacity, int stripes) {
+        int count = Math.max(1, Math.min(stripes, capacity));
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe(capacity / count + (i < capacity % count ? 1 : 0));
+        }
+    }
+
+    public void offer(String key) {
+        stripe(key).offer(key);
+    }
+
+    public long estimate(String key) {
+        return stripe(key).estimate(key);
+    }
+
+    public List<Entry> top(int limit) {
+        List<Entry> entries = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.collect(entries);
+        }
+        entries.sort(Comparator.comparingLong((Entry entry) -> entry.count).reversed()
+                .thenComparingLong(entry -> entry.error));
+        return entries.subList(0, Math.min(limit, entries.size()));
+    }
+
+    private Stripe stripe(String key) {
+        int hash = key.hashCode();
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+
+    /**
+     * Counters grouped into buckets of equal count, kept in a list ordered by count, so an
+     * increment moves a counter to the neighbouring bucket and the minimum is the first one.
+     */
+    private static final class Stripe {
+        private final int capacity;
+        private final Map<String, Counter> counters;
+        private Bucket min;
+
+        private Stripe(int capacity) {
+            this.capacity = capacity;
+            this.counters = new HashMap<>(capacity * 2);
+        }
+
+        private synchronized void offer(String key) {
+            Counter counter = counters.get(key);
+            if (counter != null) {
+                increment(counter);
+                return;
+            }
+            if (counters.size() < capacity) {
+                counter = new Counter(key, 0);
+                counters.put(key, counter);
+                if (min == null || min.count != 1) {
+                    Bucket first = new Bucket(1);
+                    first.next = min;
+                    if (min != null) {
+                        min.prev = first;
+                    }
+                    min = first;
+                }
+                min.add(counter);
+                return;
+            }
+            if (min == null) {
+                return;
+            }
+            counter = min.head;
+            counters.remove(counter.key);
+            counter.key = key;
+            counter.error = min.count;
+            counters.put(key, counter);
+            increment(counter);
+        }
+
+        private synchronized long estimate(String key) {
+            Counter counter = counters.get(key);
+            return counter == null ? 0 : counter.bucket.count;
+        }
+
+        private synchronized void collect(List<Entry> entries) {
+            for (Bucket bucket = min; bucket != null; bucket = bucket.next) {
+                for (Counter counter = bucket.head; counter != null; counter = counter.next) {
+                    entries.add(new Entry(counter.key, bucket.count, counter.error));
+                }
+            }
+        }
+
+        private void increment(Counter counter) {
+            Bucket from = counter.bucket;
+            Bucket to = from.next;
+            if (to == null || to.count != from.count + 1) {
+                to = new Bucket(from.count + 1);
+                to.prev = from;
+                to.next = from.next;
+                if (from.next != null) {
+                    from.next.prev = to;
+                }
+                from.next = to;
+            }
+            from.remove(counter);
+            if (from.head == null) {
+                unlink(from);
+            }
+            to.add(counter);
+        }
+
+        private void unlink(Bucket bucket) {
+            if (bucket.prev != null) {
+                bucket.prev.next = bucket.next;
+            } else {
+                min = bucket.next;
+            }
+            if (bucket.next != null) {
+                bucket.next.prev = bucket.prev;
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private final long count;
+        private Bucket prev;
+        private Bucket next;
+        private Counter head;
+
+        private Bucket(long count) {
+            this.count = count;
+        }
+
+        private void add(Counter counter) {
+            counter.bucket = this;
+            counter.prev = null;
+            counter.next = head;
+            if (head != null) {
+                head.prev = counter;
+            }
+            head = counter;
+        }
+
+        private void remove(Counter counter) {
+            if (counter.prev != null) {
+                counter.prev.next = counter.next;
+            } else {
+                head = counter.next;
+            }
+            if (counter.next != null) {
+                counter.next.prev = counter.prev;
+            }
+        }
+    }
+
+    private static final class Counter {
+        private String key;
+        private long error;
+        private Bucket bucket;
+        private Counter prev;
+        private Counter next;
+
+        private Counter(String key, long error) {
+            this.key = key;
+            this.error = error;
+        }
+    }
+
+    public static final class Entry {
+        private final String key;
+        private final long count;
+        private final long error;
+
+        private Entry(String key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.barbershop.metrics;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HyperLogLog distinct counter with 4096 six-bit registers (about 1.6% standard error)
+ * packed ten to a long, so one sketch takes ~3.3 KB regardless of how many values it
+ * has seen. Registers are raised with compare-and-set, so concurrent adds never block.
+ */
+public final class HyperLogLog {
+
+    private static final int PRECISION = 12;
+    private static final int REGISTERS = 1 << PRECISION;
+    private static final int REGISTER_BITS = 6;
+    private static final int REGISTERS_PER_WORD = 64 / REGISTER_BITS;
+    private static final long REGISTER_MASK = (1L << REGISTER_BITS) - 1;
+    private static final int WORDS = (REGISTERS + REGISTERS_PER_WORD - 1) / REGISTERS_PER_WORD;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final AtomicLongArray words = new AtomicLongArray(WORDS);
+
+    public void add(String value) {
+        addHash(hash(value));
+    }
+
+    void addHash(long hash) {
+        int index = (int) (hash >>> (64 - PRECISION));
+        int rank = Math.min(Long.numberOfLeadingZeros((hash << PRECISION) | (1L << 11)) + 1,
+                (int) REGISTER_MASK);
+        raise(index, rank);
+    }
+
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTERS; i++) {
+            raise(i, other.register(i));
+        }
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < REGISTERS; i++) {
+            int register = register(i);
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        byte[] registers = new byte[REGISTERS];
+        for (int i = 0; i < REGISTERS; i++) {
+            registers[i] = (byte) register(i);
+        }
+        return registers;
+    }
+
+    public static HyperLogLog fromBytes(byte[] registers) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < Math.min(registers.length, REGISTERS); i++) {
+            sketch.raise(i, registers[i] & (int) REGISTER_MASK);
+        }
+        return sketch;
+    }
+
+    private int register(int index) {
+        int shift = (index % REGISTERS_PER_WORD) * REGISTER_BITS;
+        return (int) ((words.get(index / REGISTERS_PER_WORD) >>> shift) & REGISTER_MASK);
+    }
+
+    private void raise(int index, int rank) {
+        int word = index / REGISTERS_PER_WORD;
+        int shift = (index % REGISTERS_PER_WORD) * REGISTER_BITS;
+        while (true) {
+            long current = words.get(word);
+            if (((current >>> shift) & REGISTER_MASK) >= rank) {
+                return;
+            }
+            long next = (current & ~(REGISTER_MASK << shift)) | ((long) rank << shift);
+            if (words.compareAndSet(word, current, next)) {
+                return;
+            }
+        }
+    }
+
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
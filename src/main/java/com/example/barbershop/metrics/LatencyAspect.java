@@ -0,0 +1,78 @@
+package com.example.barbershop.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LatencyAspect {
+
+    private static final String REPOSITORY_PACKAGE = "com.example.barbershop.repository";
+
+    private final LatencyRegistry registry;
+    private final boolean enabled;
+    private final Map<Method, LatencyHistogram> controllers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<Method, LatencyHistogram>> repositories =
+            new ConcurrentHashMap<>();
+
+    public LatencyAspect(LatencyRegistry registry,
+                         @Value("${metrics.latency.enabled:true}") boolean enabled) {
+        this.registry = registry;
+        this.enabled = enabled;
+    }
+
+    @Around("execution(* com.example.barbershop.controller.*.*(..))")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        LatencyHistogram histogram = controllers.computeIfAbsent(method,
+                m -> registry.histogram(LatencyRegistry.CONTROLLER,
+                        m.getDeclaringClass().getSimpleName() + "." + m.getName()));
+        return time(joinPoint, histogram);
+    }
+
+    @Around("execution(* com.example.barbershop.repository.*.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> proxyClass = joinPoint.getThis().getClass();
+        LatencyHistogram histogram = repositories
+                .computeIfAbsent(proxyClass, type -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, m -> registry.histogram(LatencyRegistry.REPOSITORY,
+                        repositoryName(proxyClass) + "." + m.getName()));
+        return time(joinPoint, histogram);
+    }
+
+    private static Object time(ProceedingJoinPoint joinPoint, LatencyHistogram histogram)
+            throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            histogram.recordNanos(System.nanoTime() - start);
+        }
+    }
+
+    private static String repositoryName(Class<?> proxyClass) {
+        for (Class<?> type : proxyClass.getInterfaces()) {
+            if (type.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                return type.getSimpleName();
+            }
+        }
+        return proxyClass.getSimpleName();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.barbershop.metrics;
+
+import com.example.barbershop.dto.LatencyStatsDto;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Service;
+
+@Service
+public class LatencyRegistry {
+
+    public static final String CONTROLLER = "controller";
+    public static final String REPOSITORY = "repository";
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public LatencyHistogram histogram(String layer, String name) {
+        return histograms.computeIfAbsent(layer + ":" + name, key -> new LatencyHistogram());
+    }
+
+    public List<LatencyStatsDto> getStats(String layer) {
+        List<LatencyStatsDto> stats = new ArrayList<>();
+        histograms.forEach((key, histogram) -> {
+            int separator = key.indexOf(':');
+            String keyLayer = key.substring(0, separator);
+            if (layer == null || layer.equals(keyLayer)) {
+                stats.add(toDto(keyLayer, key.substring(separator + 1), histogram.snapshot()));
+            }
+        });
+        stats.sort(Comparator.comparingDouble(LatencyStatsDto::getP99Ms).reversed());
+        return stats;
+    }
+
+    public String toPrometheus() {
+        StringBuilder out = new StringBuilder();
+        out.append("# HELP barbershop_latency_seconds Method latency by layer\n");
+        out.append("# TYPE barbershop_latency_seconds summary\n");
+        for (LatencyStatsDto stat : getStats(null)) {
+            String labels = "layer=\"" + stat.getLayer() + "\",method=\"" + stat.getName() + "\"";
+            appendQuantile(out, labels, "0.5", stat.getP50Ms());
+            appendQuantile(out, labels, "0.99", stat.getP99Ms());
+            appendQuantile(out, labels, "0.999", stat.getP999Ms());
+            out.append("barbershop_latency_seconds_sum{").append(labels).append("} ")
+                    .append(seconds(stat.getMeanMs() * stat.getCount())).append('\n');
+            out.append("barbershop_latency_seconds_count{").append(labels).append("} ")
+                    .append(stat.getCount()).append('\n');
+        }
+        return out.toString();
+    }
+
+    public void reset() {
+        histograms.values().forEach(LatencyHistogram::reset);
+    }
+
+    private static void appendQuantile(StringBuilder out, String labels, String quantile,
+                                       double millis) {
+        out.append("barbershop_latency_seconds{").append(labels)
+                .append(",quantile=\"").append(quantile).append("\"} ")
+                .append(seconds(millis)).append('\n');
+    }
+
+    private static String seconds(double millis) {
+        return String.format(Locale.ROOT, "%.6f", millis / 1000);
+    }
+
+    private static LatencyStatsDto toDto(String layer, String name,
+                                         LatencyHistogram.Snapshot snapshot) {
+        LatencyStatsDto dto = new LatencyStatsDto();
+        dto.setLayer(layer);
+        dto.setName(name);
+        dto.setCount(snapshot.getCount());
+        dto.setMeanMs(snapshot.getMeanMicros() / 1000);
+        dto.setP50Ms(snapshot.percentileMicros(50) / 1000.0);
+        dto.setP99Ms(snapshot.percentileMicros(99) / 1000.0);
+        dto.setP999Ms(snapshot.percentileMicros(99.9) / 1000.0);
+        dto.setMaxMs(snapshot.getMaxMicros() / 1000.0);
+        return dto;
+    }
+}
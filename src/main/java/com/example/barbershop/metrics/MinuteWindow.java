@@ -0,0 +1,40 @@
+package com.example.barbershop.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-minute counts for the last 24 hours. Each slot packs the epoch minute it belongs
+ * to (high 32 bits) with its count (low 32 bits), so a slot left over from a previous
+ * day is recognised and restarted by the same compare-and-set that increments it.
+ */
+public final class MinuteWindow {
+
+    public static final int MINUTES = 24 * 60;
+    private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+    private final AtomicLongArray slots = new AtomicLongArray(MINUTES);
+
+    public void increment(long epochMinute) {
+        int slot = (int) (epochMinute % MINUTES);
+        long stamp = epochMinute << 32;
+        while (true) {
+            long current = slots.get(slot);
+            long next = (current & ~COUNT_MASK) == stamp ? current + 1 : stamp | 1;
+            if (slots.compareAndSet(slot, current, next)) {
+                return;
+            }
+        }
+    }
+
+    public long sum(long epochMinute, int minutes) {
+        long total = 0;
+        for (int i = 0; i < Math.min(minutes, MINUTES); i++) {
+            long minute = epochMinute - i;
+            long value = slots.get((int) (minute % MINUTES));
+            if (value >>> 32 == minute) {
+                total += value & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+}
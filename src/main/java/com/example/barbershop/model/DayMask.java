@@ -0,0 +1,61 @@
+package com.example.barbershop.model;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Working days as a 7-bit mask, bit 0 for Monday through bit 6 for Sunday, matching both
+ * {@link Barber.DayOfWeek} ordinals and {@code java.time.DayOfWeek.getValue() - 1}.
+ */
+@UtilityClass
+public class DayMask {
+
+    public static final int ALL_DAYS = (1 << 7) - 1;
+
+    public int of(Set<Barber.DayOfWeek> days) {
+        int mask = 0;
+        if (days != null) {
+            for (Barber.DayOfWeek day : days) {
+                mask |= bit(day);
+            }
+        }
+        return mask;
+    }
+
+    public EnumSet<Barber.DayOfWeek> toSet(int mask) {
+        EnumSet<Barber.DayOfWeek> days = EnumSet.noneOf(Barber.DayOfWeek.class);
+        for (Barber.DayOfWeek day : Barber.DayOfWeek.values()) {
+            if ((mask & bit(day)) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    public EnumSet<Barber.DayOfWeek> copy(Set<Barber.DayOfWeek> days) {
+        return toSet(of(days));
+    }
+
+    public int bit(Barber.DayOfWeek day) {
+        return 1 << day.ordinal();
+    }
+
+    public boolean contains(int mask, java.time.DayOfWeek day) {
+        return (mask & (1 << (day.getValue() - 1))) != 0;
+    }
+
+    /**
+     * Every mask value that includes the day. An {@code IN} over these can use an index on
+     * the mask column, unlike {@code mask & bit <> 0}.
+     */
+    public List<Integer> masksContaining(Barber.DayOfWeek day) {
+        int bit = bit(day);
+        return IntStream.rangeClosed(1, ALL_DAYS)
+                .filter(mask -> (mask & bit) != 0)
+                .boxed()
+                .toList();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.barbershop.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Set;
+
+@Converter
+public class DayMaskConverter implements AttributeConverter<Set<Barber.DayOfWeek>, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(Set<Barber.DayOfWeek> days) {
+        return DayMask.of(days);
+    }
+
+    @Override
+    public Set<Barber.DayOfWeek> convertToEntityAttribute(Integer mask) {
+        return DayMask.toSet(mask == null ? 0 : mask);
+    }
+}
@@ -1,17 +1,32 @@
 package com.example.barbershop.model;
 
 import java.nio.file.Path;
+import java.time.Instant;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class LogFileTask {
     private String taskId;
     private String status;
     private Path filePath;
     private String errorMessage;
+    private String date;
+    private String level;
+    private String loggerName;
+    private Instant createdAt;
+    private Instant completedAt;
+    private long sourceSize;
+    private long sourceLastModified;
 
     public LogFileTask(String taskId) {
         this.taskId = taskId;
         this.status = "PENDING";
+        this.createdAt = Instant.now();
     }
-}
\ No newline at end of file
+
+    public boolean isFinished() {
+        return "COMPLETED".equals(status) || "FAILED".equals(status);
+    }
+}
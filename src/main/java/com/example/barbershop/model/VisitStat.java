@@ -0,0 +1,17 @@
+package com.example.barbershop.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+@Entity
+@Table(name = "visit_stats")
+public class VisitStat {
+    @Id
+    private String url;
+    private long total;
+}
@@ -1,18 +1,35 @@
 package com.example.barbershop.repository;
 
 import com.example.barbershop.model.Barber;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface BarberRepository extends JpaRepository<Barber, Long> {
 
     @Query("SELECT b FROM Barber b WHERE b.location.name = :locationName")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Barber> findBarbersByLocationName(@Param("locationName") String locationName);
 
     @Query(value = "SELECT b.* FROM Barber b JOIN Location l ON b.location_id = l.location_id "
             + "WHERE l.name = :locationName", nativeQuery = true)
     List<Barber> findBarbersByLocationNameNative(@Param("locationName") String locationName);
 
-}
\ No newline at end of file
+    /** Pass {@code DayMask.masksContaining(day)}, so the lookup can use the mask index. */
+    @Query(value = "SELECT * FROM Barber WHERE available_days_mask IN (:masks)",
+            nativeQuery = true)
+    List<Barber> findByAvailableDaysMaskIn(@Param("masks") Collection<Integer> masks);
+
+    @Query("SELECT DISTINCT b FROM Barber b LEFT JOIN FETCH b.offerings "
+            + "LEFT JOIN FETCH b.location")
+    List<Barber> findAllForCatalog();
+
+    @Query("SELECT DISTINCT b FROM Barber b LEFT JOIN FETCH b.offerings "
+            + "LEFT JOIN FETCH b.location WHERE b.barberId IN :ids")
+    List<Barber> findAllForCatalogByIds(@Param("ids") Collection<Long> ids);
+}
@@ -17,4 +17,23 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate
     );
-}
\ No newline at end of file
+
+    @Query("SELECT o.offering.offeringId AS id, COUNT(o) AS count FROM Order o "
+            + "WHERE o.offering IS NOT NULL GROUP BY o.offering.offeringId")
+    List<IdCount> countByOffering();
+
+    @Query("SELECT o.location.locationId AS id, COUNT(o) AS count FROM Order o "
+            + "WHERE o.location IS NOT NULL GROUP BY o.location.locationId")
+    List<IdCount> countByLocation();
+
+    @Query("SELECT o.barber.barberId AS id, COUNT(o) AS count FROM Order o "
+            + "WHERE o.orderDate > :from AND o.orderDate < :to GROUP BY o.barber.barberId")
+    List<IdCount> countByBarberBetween(@Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    interface IdCount {
+        Long getId();
+
+        long getCount();
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.barbershop.repository;
+
+import com.example.barbershop.model.VisitStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface VisitStatRepository extends JpaRepository<VisitStat, String> {
+}
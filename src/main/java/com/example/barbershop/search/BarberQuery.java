@@ -0,0 +1,19 @@
+package com.example.barbershop.search;
+
+import com.example.barbershop.model.Barber;
+import java.time.LocalTime;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BarberQuery {
+    private String q;
+    private Long offeringId;
+    private String location;
+    private Barber.DayOfWeek day;
+    private LocalTime from;
+    private LocalTime to;
+    private int page;
+    private int size = 20;
+}
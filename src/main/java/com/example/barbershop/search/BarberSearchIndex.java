@@ -0,0 +1,371 @@
+package com.example.barbershop.search;
+
+import com.example.barbershop.dto.BarberDto;
+import com.example.barbershop.dto.BarberSearchResultDto;
+import com.example.barbershop.mapper.BarberMapper;
+import com.example.barbershop.model.Barber;
+import com.example.barbershop.model.DayMask;
+import com.example.barbershop.model.Offering;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over barber names with postings by offering and location.
+ * Name tokens match exactly, by prefix, or within a small edit distance; all query tokens
+ * must match. Updated one barber at a time, searched under a read lock.
+ */
+public class BarberSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int EXACT = 3;
+    private static final int PREFIX = 2;
+    private static final int FUZZY = 1;
+    private static final char GRAM_START = '^';
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final NavigableMap<String, Set<Long>> tokens = new TreeMap<>();
+    private final Map<String, Set<String>> grams = new HashMap<>();
+    private final Map<Long, Set<Long>> byOffering = new HashMap<>();
+    private final Map<Long, Set<Long>> byLocation = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(Barber barber) {
+        Document document = new Document(barber);
+        lock.writeLock().lock();
+        try {
+            unindex(documents.put(document.id, document));
+            for (String token : document.tokens) {
+                tokens.computeIfAbsent(token, key -> {
+                    for (String gram : grams(key)) {
+                        grams.computeIfAbsent(gram, unused -> new HashSet<>()).add(key);
+                    }
+                    return new HashSet<>();
+                }).add(document.id);
+            }
+            for (Long offeringId : document.offeringIds) {
+                byOffering.computeIfAbsent(offeringId, key -> new HashSet<>()).add(document.id);
+            }
+            if (document.locationId != null) {
+                byLocation.computeIfAbsent(document.locationId, key -> new HashSet<>())
+                        .add(document.id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long barberId) {
+        lock.writeLock().lock();
+        try {
+            unindex(documents.remove(barberId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            tokens.clear();
+            grams.clear();
+            byOffering.clear();
+            byLocation.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Barbers currently indexed with any of the offerings. */
+    public Set<Long> barbersWithOfferings(Collection<Long> offeringIds) {
+        return postings(byOffering, offeringIds);
+    }
+
+    /** Barbers currently indexed at any of the locations. */
+    public Set<Long> barbersAtLocations(Collection<Long> locationIds) {
+        return postings(byLocation, locationIds);
+    }
+
+    public BarberSearchResultDto search(BarberQuery query) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = matchName(query.getQ());
+            Collection<Long> candidates = scores != null ? scores.keySet() : documents.keySet();
+            if (query.getOfferingId() != null) {
+                candidates = intersect(candidates,
+                        byOffering.getOrDefault(query.getOfferingId(), Set.of()));
+            }
+
+            List<Document> hits = new ArrayList<>();
+            for (Long id : candidates) {
+                Document document = documents.get(id);
+                if (document != null && document.matches(query)) {
+                    hits.add(document);
+                }
+            }
+            Comparator<Document> order = Comparator.comparingInt(
+                    document -> scores == null ? 0 : -scores.get(document.id));
+            hits.sort(order.thenComparing(document -> document.sortName)
+                    .thenComparing(document -> document.id));
+
+            int from = (int) Math.min((long) query.getPage() * query.getSize(), hits.size());
+            int to = Math.min(from + query.getSize(), hits.size());
+            BarberSearchResultDto result = new BarberSearchResultDto();
+            result.setItems(hits.subList(from, to).stream().map(document -> document.dto)
+                    .toList());
+            result.setTotal(hits.size());
+            result.setPage(query.getPage());
+            result.setSize(query.getSize());
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Ids matching every token of the text with summed scores, or null for no text. */
+    private Map<Long, Integer> matchName(String text) {
+        List<String> queryTokens = tokenize(text);
+        if (queryTokens.isEmpty()) {
+            return null;
+        }
+        Map<Long, Integer> result = null;
+        for (String queryToken : queryTokens) {
+            Map<Long, Integer> matches = matchToken(queryToken);
+            if (result == null) {
+                result = matches;
+            } else {
+                result.keySet().retainAll(matches.keySet());
+                result.replaceAll((id, score) -> score + matches.get(id));
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private Map<Long, Integer> matchToken(String queryToken) {
+        Map<Long, Integer> matches = new HashMap<>();
+        for (Map.Entry<String, Set<Long>> entry : tokens
+                .subMap(queryToken, true, queryToken + Character.MAX_VALUE, false).entrySet()) {
+            int score = entry.getKey().equals(queryToken) ? EXACT : PREFIX;
+            for (Long id : entry.getValue()) {
+                matches.merge(id, score, Math::max);
+            }
+        }
+        int maxEdits = maxEdits(queryToken.length());
+        if (maxEdits == 0) {
+            return matches;
+        }
+        for (String token : fuzzyCandidates(queryToken, maxEdits)) {
+            if (token.length() + maxEdits < queryToken.length() || token.startsWith(queryToken)) {
+                continue;
+            }
+            String head = token.length() > queryToken.length() + maxEdits
+                    ? token.substring(0, queryToken.length()) : token;
+            if (EditDistance.within(queryToken, head, maxEdits)
+                    || EditDistance.within(queryToken, token, maxEdits)) {
+                for (Long id : tokens.get(token)) {
+                    matches.merge(id, FUZZY, Math::max);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Tokens sharing enough grams with the query to be within maxEdits of it, or to start with
+     * something that is. An edit or transposition breaks at most three of the query's bigrams
+     * and one of its characters, so bigrams are used while they still leave a positive bound.
+     */
+    private Set<String> fuzzyCandidates(String queryToken, int maxEdits) {
+        List<String> queryGrams = bigrams(queryToken);
+        int required = queryGrams.size() - 3 * maxEdits;
+        if (required <= 0) {
+            queryGrams = characters(queryToken);
+            required = queryGrams.size() - maxEdits;
+        }
+        Map<String, Integer> shared = new HashMap<>();
+        for (String gram : queryGrams) {
+            for (String token : grams.getOrDefault(gram, Set.of())) {
+                shared.merge(token, 1, Integer::sum);
+            }
+        }
+        Set<String> candidates = new HashSet<>();
+        for (Map.Entry<String, Integer> entry : shared.entrySet()) {
+            if (entry.getValue() >= required) {
+                candidates.add(entry.getKey());
+            }
+        }
+        return candidates;
+    }
+
+    private static int maxEdits(int length) {
+        if (length < 3) {
+            return 0;
+        }
+        return length < 6 ? 1 : 2;
+    }
+
+    private void unindex(Document document) {
+        if (document == null) {
+            return;
+        }
+        for (String token : document.tokens) {
+            removePosting(tokens, token, document.id);
+            if (!tokens.containsKey(token)) {
+                for (String gram : grams(token)) {
+                    removePosting(grams, gram, token);
+                }
+            }
+        }
+        for (Long offeringId : document.offeringIds) {
+            removePosting(byOffering, offeringId, document.id);
+        }
+        if (document.locationId != null) {
+            removePosting(byLocation, document.locationId, document.id);
+        }
+    }
+
+    private static <K, V> void removePosting(Map<K, Set<V>> postings, K key, V id) {
+        Set<V> ids = postings.get(key);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private Set<Long> postings(Map<Long, Set<Long>> postings, Collection<Long> keys) {
+        lock.readLock().lock();
+        try {
+            Set<Long> ids = new HashSet<>();
+            for (Long key : keys) {
+                ids.addAll(postings.getOrDefault(key, Set.of()));
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Collection<Long> intersect(Collection<Long> left, Set<Long> right) {
+        if (left.size() > right.size()) {
+            List<Long> ids = new ArrayList<>();
+            for (Long id : right) {
+                if (left.contains(id)) {
+                    ids.add(id);
+                }
+            }
+            return ids;
+        }
+        return left.stream().filter(right::contains).toList();
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                result.add(token);
+            }
+        }
+        return result;
+    }
+
+    /** Characters and start-anchored bigrams of an indexed token. */
+    private static Set<String> grams(String token) {
+        Set<String> result = new HashSet<>(characters(token));
+        result.addAll(bigrams(token));
+        return result;
+    }
+
+    private static List<String> characters(String token) {
+        List<String> result = new ArrayList<>(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            result.add(String.valueOf(token.charAt(i)));
+        }
+        return result;
+    }
+
+    private static List<String> bigrams(String token) {
+        String anchored = GRAM_START + token;
+        List<String> result = new ArrayList<>(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            result.add(anchored.substring(i, i + 2));
+        }
+        return result;
+    }
+
+    private static final class Document {
+        private final Long id;
+        private final String sortName;
+        private final Set<String> tokens;
+        private final Set<Long> offeringIds = new HashSet<>();
+        private final Long locationId;
+        private final String locationName;
+        private final int workingDays;
+        private final LocalTime start;
+        private final LocalTime end;
+        private final BarberDto dto;
+
+        private Document(Barber barber) {
+            this.id = barber.getBarberId();
+            this.sortName = barber.getName() == null ? ""
+                    : barber.getName().toLowerCase(Locale.ROOT);
+            this.tokens = new HashSet<>(tokenize(barber.getName()));
+            for (Offering offering : barber.getOfferings()) {
+                offeringIds.add(offering.getOfferingId());
+            }
+            this.locationId = barber.getLocation() == null ? null
+                    : barber.getLocation().getLocationId();
+            this.locationName = barber.getLocation() == null ? null
+                    : barber.getLocation().getName();
+            this.workingDays = DayMask.of(barber.getAvailableDays());
+            this.start = barber.getStartTime() == null ? null
+                    : barber.getStartTime().toLocalTime();
+            this.end = barber.getEndTime() == null ? null : barber.getEndTime().toLocalTime();
+            this.dto = BarberMapper.toDto(barber);
+        }
+
+        private boolean matches(BarberQuery query) {
+            if (query.getLocation() != null
+                    && !query.getLocation().equalsIgnoreCase(locationName)) {
+                return false;
+            }
+            if (query.getDay() != null && (workingDays & DayMask.bit(query.getDay())) == 0) {
+                return false;
+            }
+            if (query.getFrom() == null && query.getTo() == null) {
+                return true;
+            }
+            if (start == null || end == null) {
+                return false;
+            }
+            LocalTime from = query.getFrom() != null ? query.getFrom() : query.getTo();
+            LocalTime to = query.getTo() != null ? query.getTo() : query.getFrom();
+            return !from.isBefore(start) && !to.isAfter(end);
+        }
+    }
+}
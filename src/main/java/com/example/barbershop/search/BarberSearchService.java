@@ -0,0 +1,102 @@
+package com.example.barbershop.search;
+
+import com.example.barbershop.catalog.CatalogChangedEvent;
+import com.example.barbershop.dto.BarberSearchResultDto;
+import com.example.barbershop.exception.ValidationException;
+import com.example.barbershop.model.Barber;
+import com.example.barbershop.repository.BarberRepository;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Serves barber search from {@link BarberSearchIndex}. The index is loaded on the first
+ * search and afterwards only the barbers touched by a committed change are reloaded.
+ */
+@Service
+public class BarberSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BarberSearchService.class);
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final BarberRepository barberRepository;
+    private final BarberSearchIndex index = new BarberSearchIndex();
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private volatile boolean loaded;
+
+    public BarberSearchService(BarberRepository barberRepository) {
+        this.barberRepository = barberRepository;
+    }
+
+    public BarberSearchResultDto search(BarberQuery query) {
+        if (query.getPage() < 0) {
+            throw new ValidationException("Page must not be negative");
+        }
+        if (query.getSize() < 1 || query.getSize() > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (query.getFrom() != null && query.getTo() != null
+                && query.getTo().isBefore(query.getFrom())) {
+            throw new ValidationException("End of the time window must not be before its start");
+        }
+        ensureLoaded();
+        return index.search(query);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        updateLock.lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            Collection<Long> barberIds = switch (event.getKind()) {
+                case BARBER -> event.getIds();
+                case OFFERING -> index.barbersWithOfferings(event.getIds());
+                case LOCATION -> index.barbersAtLocations(event.getIds());
+            };
+            reindex(barberIds);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to update search index, reloading on next search: {}",
+                    e.getMessage());
+            loaded = false;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void reindex(Collection<Long> barberIds) {
+        if (barberIds.isEmpty()) {
+            return;
+        }
+        Set<Long> missing = new HashSet<>(barberIds);
+        for (Barber barber : barberRepository.findAllForCatalogByIds(barberIds)) {
+            index.put(barber);
+            missing.remove(barber.getBarberId());
+        }
+        missing.forEach(index::remove);
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        updateLock.lock();
+        try {
+            if (!loaded) {
+                index.clear();
+                barberRepository.findAllForCatalog().forEach(index::put);
+                loaded = true;
+                logger.info("Search index loaded with {} barbers", index.size());
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+}
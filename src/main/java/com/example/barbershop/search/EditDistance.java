@@ -0,0 +1,45 @@
+package com.example.barbershop.search;
+
+/** Bounded optimal string alignment distance: edits plus adjacent transpositions. */
+final class EditDistance {
+
+    private EditDistance() {
+    }
+
+    static boolean within(String left, String right, int maxEdits) {
+        int leftLength = left.length();
+        int rightLength = right.length();
+        if (Math.abs(leftLength - rightLength) > maxEdits) {
+            return false;
+        }
+        int[] previousPrevious = new int[rightLength + 1];
+        int[] previous = new int[rightLength + 1];
+        int[] current = new int[rightLength + 1];
+        for (int j = 0; j <= rightLength; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= leftLength; i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= rightLength; j++) {
+                int cost = left.charAt(i - 1) == right.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1),
+                        previous[j - 1] + cost);
+                if (i > 1 && j > 1 && left.charAt(i - 1) == right.charAt(j - 2)
+                        && left.charAt(i - 2) == right.charAt(j - 1)) {
+                    value = Math.min(value, previousPrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMinimum = Math.min(rowMinimum, value);
+            }
+            if (rowMinimum > maxEdits) {
+                return false;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[rightLength] <= maxEdits;
+    }
+}
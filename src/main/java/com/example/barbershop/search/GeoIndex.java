@@ -0,0 +1,144 @@
+package com.example.barbershop.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.LongPredicate;
+
+/**
+ * Immutable k-d tree over points on the earth. Points are stored as unit vectors, so the
+ * straight-line (chord) distance orders them exactly like the great-circle distance and
+ * there is no special case at the poles or the antimeridian.
+ */
+public final class GeoIndex {
+
+    public static final GeoIndex EMPTY = build(List.of());
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private final long[] ids;
+    private final double[][] coordinates;
+
+    private GeoIndex(long[] ids, double[][] coordinates) {
+        this.ids = ids;
+        this.coordinates = coordinates;
+    }
+
+    public static GeoIndex build(List<Point> points) {
+        int count = points.size();
+        Point[] sorted = points.toArray(new Point[0]);
+        order(sorted, 0, count, 0);
+        long[] ids = new long[count];
+        double[][] coordinates = new double[count][];
+        for (int i = 0; i < count; i++) {
+            ids[i] = sorted[i].id;
+            coordinates[i] = sorted[i].vector;
+        }
+        return new GeoIndex(ids, coordinates);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /** Up to {@code k} points accepted by the filter, nearest first. */
+    public List<Neighbor> nearest(double latitude, double longitude, int k,
+                                  LongPredicate filter) {
+        double[] target = toVector(latitude, longitude);
+        PriorityQueue<Neighbor> best = new PriorityQueue<>(
+                Comparator.comparingDouble((Neighbor neighbor) -> neighbor.chord).reversed());
+        search(target, 0, ids.length, 0, k, filter, best);
+        List<Neighbor> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(neighbor -> neighbor.chord));
+        return result;
+    }
+
+    private void search(double[] target, int from, int to, int axis, int k,
+                        LongPredicate filter, PriorityQueue<Neighbor> best) {
+        if (from >= to) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        double[] point = coordinates[middle];
+        if (filter.test(ids[middle])) {
+            double chord = Math.sqrt(squaredDistance(target, point));
+            if (best.size() < k) {
+                best.add(new Neighbor(ids[middle], chord));
+            } else if (chord < best.peek().chord) {
+                best.poll();
+                best.add(new Neighbor(ids[middle], chord));
+            }
+        }
+        double delta = target[axis] - point[axis];
+        int next = (axis + 1) % 3;
+        if (delta < 0) {
+            search(target, from, middle, next, k, filter, best);
+            if (best.size() < k || Math.abs(delta) < best.peek().chord) {
+                search(target, middle + 1, to, next, k, filter, best);
+            }
+        } else {
+            search(target, middle + 1, to, next, k, filter, best);
+            if (best.size() < k || Math.abs(delta) < best.peek().chord) {
+                search(target, from, middle, next, k, filter, best);
+            }
+        }
+    }
+
+    /** Arranges the range so every subtree's median sits in its middle slot. */
+    private static void order(Point[] points, int from, int to, int axis) {
+        if (to - from <= 1) {
+            return;
+        }
+        Arrays.sort(points, from, to,
+                Comparator.comparingDouble(point -> point.vector[axis]));
+        int middle = (from + to) >>> 1;
+        int next = (axis + 1) % 3;
+        order(points, from, middle, next);
+        order(points, middle + 1, to, next);
+    }
+
+    private static double squaredDistance(double[] left, double[] right) {
+        double dx = left[0] - right[0];
+        double dy = left[1] - right[1];
+        double dz = left[2] - right[2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static double[] toVector(double latitude, double longitude) {
+        double phi = Math.toRadians(latitude);
+        double lambda = Math.toRadians(longitude);
+        double cosPhi = Math.cos(phi);
+        return new double[] {cosPhi * Math.cos(lambda), cosPhi * Math.sin(lambda),
+                Math.sin(phi)};
+    }
+
+    public static final class Point {
+        private final long id;
+        private final double[] vector;
+
+        public Point(long id, double latitude, double longitude) {
+            this.id = id;
+            this.vector = toVector(latitude, longitude);
+        }
+    }
+
+    public static final class Neighbor {
+        private final long id;
+        private final double chord;
+
+        private Neighbor(long id, double chord) {
+            this.id = id;
+            this.chord = chord;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public double getDistanceMeters() {
+            return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, chord / 2));
+        }
+    }
+}
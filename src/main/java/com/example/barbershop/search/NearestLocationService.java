@@ -0,0 +1,173 @@
+package com.example.barbershop.search;
+
+import com.example.barbershop.catalog.Catalog;
+import com.example.barbershop.catalog.CatalogChangedEvent;
+import com.example.barbershop.catalog.CatalogService;
+import com.example.barbershop.dto.NearbyLocationDto;
+import com.example.barbershop.model.Location;
+import com.example.barbershop.repository.LocationRepository;
+import com.example.barbershop.repository.OrderRepository;
+import com.example.barbershop.service.BarberService;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongPredicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Finds the locations closest to a point from a {@link GeoIndex} over the locations that
+ * have coordinates. The index is rebuilt and swapped in after every location write.
+ */
+@Service
+public class NearestLocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearestLocationService.class);
+
+    private final LocationRepository locationRepository;
+    private final OrderRepository orderRepository;
+    private final CatalogService catalogService;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public NearestLocationService(LocationRepository locationRepository,
+                                  OrderRepository orderRepository,
+                                  CatalogService catalogService) {
+        this(locationRepository, orderRepository, catalogService, Clock.systemDefaultZone());
+    }
+
+    NearestLocationService(LocationRepository locationRepository,
+                           OrderRepository orderRepository,
+                           CatalogService catalogService, Clock clock) {
+        this.locationRepository = locationRepository;
+        this.orderRepository = orderRepository;
+        this.catalogService = catalogService;
+        this.clock = clock;
+    }
+
+    /**
+     * The {@code k} nearest locations, optionally only those where a barber still has a
+     * free slot today.
+     */
+    public List<NearbyLocationDto> findNearest(double latitude, double longitude, int k,
+                                               boolean availableToday) {
+        Snapshot current = snapshot();
+        LongPredicate filter = availableToday ? availableToday() : id -> true;
+        List<NearbyLocationDto> result = new ArrayList<>();
+        for (GeoIndex.Neighbor neighbor : current.index.nearest(latitude, longitude, k, filter)) {
+            Location location = current.locations.get(neighbor.getId());
+            NearbyLocationDto dto = new NearbyLocationDto();
+            dto.setLocationId(location.getLocationId());
+            dto.setName(location.getName());
+            dto.setAddress(location.getAddress());
+            dto.setLatitude(location.getLatitude());
+            dto.setLongitude(location.getLongitude());
+            dto.setDistanceMeters(Math.round(neighbor.getDistanceMeters()));
+            result.add(dto);
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.getKind() != CatalogChangedEvent.Kind.LOCATION) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (snapshot != null) {
+                rebuild();
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Failed to rebuild location index, retrying on next lookup: {}",
+                    e.getMessage());
+            snapshot = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            lock.lock();
+            try {
+                if (snapshot == null) {
+                    rebuild();
+                }
+                current = snapshot;
+            } finally {
+                lock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private void rebuild() {
+        Map<Long, Location> locations = new HashMap<>();
+        List<GeoIndex.Point> points = new ArrayList<>();
+        for (Location location : locationRepository.findAll()) {
+            if (location.getLatitude() != null && location.getLongitude() != null) {
+                locations.put(location.getLocationId(), location);
+                points.add(new GeoIndex.Point(location.getLocationId(), location.getLatitude(),
+                        location.getLongitude()));
+            }
+        }
+        snapshot = new Snapshot(GeoIndex.build(points), locations);
+    }
+
+    /** Locations with a barber working today who has more free slots left than bookings. */
+    private LongPredicate availableToday() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Catalog catalog = catalogService.getCatalog();
+        Map<Long, Long> booked = new HashMap<>();
+        for (OrderRepository.IdCount count : orderRepository.countByBarberBetween(now,
+                now.toLocalDate().plusDays(1).atStartOfDay())) {
+            booked.put(count.getId(), count.getCount());
+        }
+        return locationId -> {
+            for (long barberId : catalog.barbersAt(locationId)) {
+                if (catalog.worksOn(barberId, now.getDayOfWeek())
+                        && slotsLeft(catalog, barberId, now.toLocalTime())
+                        > booked.getOrDefault(barberId, 0L)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private static long slotsLeft(Catalog catalog, long barberId, LocalTime now) {
+        LocalTime start = catalog.startTime(barberId);
+        LocalTime end = catalog.endTime(barberId);
+        if (start == null || end == null || !now.isBefore(end)) {
+            return 0;
+        }
+        long slotSeconds = BarberService.SLOT_DURATION_MINUTES * 60L;
+        long total = (end.toSecondOfDay() - start.toSecondOfDay() + slotSeconds - 1) / slotSeconds;
+        long passed = now.isBefore(start) ? 0
+                : (now.toSecondOfDay() - start.toSecondOfDay()) / slotSeconds + 1;
+        return Math.max(0, total - passed);
+    }
+
+    private static final class Snapshot {
+        private final GeoIndex index;
+        private final Map<Long, Location> locations;
+
+        private Snapshot(GeoIndex index, Map<Long, Location> locations) {
+            this.index = index;
+            this.locations = locations;
+        }
+    }
+}
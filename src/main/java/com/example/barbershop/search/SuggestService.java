@@ -0,0 +1,182 @@
+package com.example.barbershop.search;
+
+import com.example.barbershop.catalog.CatalogChangedEvent;
+import com.example.barbershop.dto.SuggestionDto;
+import com.example.barbershop.exception.ValidationException;
+import com.example.barbershop.model.Location;
+import com.example.barbershop.model.Offering;
+import com.example.barbershop.repository.LocationRepository;
+import com.example.barbershop.repository.OfferingRepository;
+import com.example.barbershop.repository.OrderRepository;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Autocomplete for offering and location names, ranked by how often each was booked.
+ * The tries are loaded on first use; offering and location writes update single entries
+ * and booking counts are refreshed on a schedule.
+ */
+@Service
+public class SuggestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuggestService.class);
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final OfferingRepository offeringRepository;
+    private final LocationRepository locationRepository;
+    private final OrderRepository orderRepository;
+    private final SuggestTrie offerings;
+    private final SuggestTrie locations;
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private volatile boolean loaded;
+    private Map<Long, Long> offeringBookings = Map.of();
+    private Map<Long, Long> locationBookings = Map.of();
+
+    public SuggestService(OfferingRepository offeringRepository,
+                          LocationRepository locationRepository,
+                          OrderRepository orderRepository,
+                          @Value("${suggest.limit:10}") int limit) {
+        this.offeringRepository = offeringRepository;
+        this.locationRepository = locationRepository;
+        this.orderRepository = orderRepository;
+        this.offerings = new SuggestTrie(limit);
+        this.locations = new SuggestTrie(limit);
+    }
+
+    public List<SuggestionDto> suggestOfferings(String query) {
+        return suggest(offerings, query);
+    }
+
+    public List<SuggestionDto> suggestLocations(String query) {
+        return suggest(locations, query);
+    }
+
+    private List<SuggestionDto> suggest(SuggestTrie trie, String query) {
+        if (query != null && query.length() > MAX_QUERY_LENGTH) {
+            throw new ValidationException("Query must not be longer than "
+                    + MAX_QUERY_LENGTH + " characters");
+        }
+        ensureLoaded();
+        return trie.suggest(query).stream().map(suggestion -> {
+            SuggestionDto dto = new SuggestionDto();
+            dto.setId(suggestion.getId());
+            dto.setName(suggestion.getLabel());
+            dto.setBookings(suggestion.getScore());
+            return dto;
+        }).toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        updateLock.lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            if (event.getKind() == CatalogChangedEvent.Kind.OFFERING) {
+                Set<Long> missing = new HashSet<>(event.getIds());
+                for (Offering offering : offeringRepository.findAllById(event.getIds())) {
+                    putOffering(offering);
+                    missing.remove(offering.getOfferingId());
+                }
+                missing.forEach(offerings::remove);
+            } else if (event.getKind() == CatalogChangedEvent.Kind.LOCATION) {
+                Set<Long> missing = new HashSet<>(event.getIds());
+                for (Location location : locationRepository.findAllById(event.getIds())) {
+                    putLocation(location);
+                    missing.remove(location.getLocationId());
+                }
+                missing.forEach(locations::remove);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Failed to update suggestions, reloading on next request: {}",
+                    e.getMessage());
+            loaded = false;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /** Re-ranks entries whose booking count changed since the last refresh. */
+    @Scheduled(fixedDelayString = "${suggest.popularity-refresh:PT5M}")
+    public void refreshPopularity() {
+        updateLock.lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            loadBookings();
+            for (Offering offering : offeringRepository.findAll()) {
+                Long id = offering.getOfferingId();
+                if (!offeringBookings.getOrDefault(id, 0L).equals(offerings.scoreOf(id))) {
+                    putOffering(offering);
+                }
+            }
+            for (Location location : locationRepository.findAll()) {
+                Long id = location.getLocationId();
+                if (!locationBookings.getOrDefault(id, 0L).equals(locations.scoreOf(id))) {
+                    putLocation(location);
+                }
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Failed to refresh suggestion popularity: {}", e.getMessage());
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        updateLock.lock();
+        try {
+            if (!loaded) {
+                loadBookings();
+                offerings.clear();
+                locations.clear();
+                offeringRepository.findAll().forEach(this::putOffering);
+                locationRepository.findAll().forEach(this::putLocation);
+                loaded = true;
+                logger.info("Suggestions loaded: {} offerings, {} locations",
+                        offerings.size(), locations.size());
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void loadBookings() {
+        offeringBookings = toMap(orderRepository.countByOffering());
+        locationBookings = toMap(orderRepository.countByLocation());
+    }
+
+    private void putOffering(Offering offering) {
+        offerings.put(offering.getOfferingId(), offering.getName(),
+                offeringBookings.getOrDefault(offering.getOfferingId(), 0L));
+    }
+
+    private void putLocation(Location location) {
+        locations.put(location.getLocationId(), location.getName(),
+                locationBookings.getOrDefault(location.getLocationId(), 0L));
+    }
+
+    private static Map<Long, Long> toMap(List<OrderRepository.IdCount> counts) {
+        Map<Long, Long> result = new HashMap<>();
+        for (OrderRepository.IdCount count : counts) {
+            result.put(count.getId(), count.getCount());
+        }
+        return result;
+    }
+}
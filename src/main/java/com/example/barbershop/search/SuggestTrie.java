@@ -0,0 +1,298 @@
+package com.example.barbershop.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed prefix trie for autocomplete. Every entry is reachable from the start of its
+ * name and from the start of each later word. Each node keeps its best suggestions
+ * precomputed, so a lookup costs one walk of the prefix regardless of the entry count.
+ * Writes recompute the suggestions only along the affected paths.
+ */
+public class SuggestTrie {
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingLong(Suggestion::getScore).reversed()
+            .thenComparing(Suggestion::getLabel, String.CASE_INSENSITIVE_ORDER)
+            .thenComparingLong(Suggestion::getId);
+
+    private final int limit;
+    private final Node root = new Node("");
+    private final Map<Long, Suggestion> entries = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SuggestTrie(int limit) {
+        this.limit = limit;
+    }
+
+    public void put(long id, String label, long score) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(id);
+            Suggestion suggestion = new Suggestion(id, label, score);
+            entries.put(id, suggestion);
+            for (String key : keys(label)) {
+                insert(key, suggestion);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            root.children.clear();
+            root.terminals.clear();
+            root.top = List.of();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Suggestion> suggest(String prefix) {
+        String key = normalize(prefix);
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int position = 0;
+            while (position < key.length()) {
+                Node child = node.children.get(key.charAt(position));
+                if (child == null) {
+                    return List.of();
+                }
+                int common = commonPrefix(child.edge, key, position);
+                if (position + common == key.length()) {
+                    return child.top;
+                }
+                if (common < child.edge.length()) {
+                    return List.of();
+                }
+                position += common;
+                node = child;
+            }
+            return node.top;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Long scoreOf(long id) {
+        lock.readLock().lock();
+        try {
+            Suggestion suggestion = entries.get(id);
+            return suggestion == null ? null : suggestion.getScore();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(String key, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            char first = key.charAt(position);
+            Node child = node.children.get(first);
+            if (child == null) {
+                child = new Node(key.substring(position));
+                node.children.put(first, child);
+                position = key.length();
+            } else {
+                int common = commonPrefix(child.edge, key, position);
+                if (common < child.edge.length()) {
+                    child = split(node, child, common);
+                }
+                position += common;
+            }
+            node = child;
+            path.add(node);
+        }
+        node.terminals.add(suggestion.getId());
+        refresh(path);
+    }
+
+    private void removeEntry(long id) {
+        Suggestion suggestion = entries.remove(id);
+        if (suggestion == null) {
+            return;
+        }
+        // A key can lie on the path of another ("cut" and "cut cut"), so the id leaves every
+        // terminal before any path is refreshed; a path already pruned away by an earlier key
+        // had its ancestors refreshed with it.
+        Set<String> keys = keys(suggestion.getLabel());
+        for (String key : keys) {
+            List<Node> path = find(key);
+            if (path != null) {
+                path.get(path.size() - 1).terminals.remove(id);
+            }
+        }
+        for (String key : keys) {
+            List<Node> path = find(key);
+            if (path != null) {
+                prune(path);
+                refresh(path);
+            }
+        }
+    }
+
+    private List<Node> find(String key) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            node = node.children.get(key.charAt(position));
+            if (node == null || !key.startsWith(node.edge, position)) {
+                return null;
+            }
+            position += node.edge.length();
+            path.add(node);
+        }
+        return path;
+    }
+
+    /** Splits the child edge after {@code length} characters and returns the new parent. */
+    private static Node split(Node parent, Node child, int length) {
+        Node middle = new Node(child.edge.substring(0, length));
+        child.edge = child.edge.substring(length);
+        middle.children.put(child.edge.charAt(0), child);
+        middle.top = child.top;
+        parent.children.put(middle.edge.charAt(0), middle);
+        return middle;
+    }
+
+    /** Drops emptied nodes and merges single-child chains left behind by a removal. */
+    private static void prune(List<Node> path) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            Node parent = path.get(i - 1);
+            if (!node.terminals.isEmpty()) {
+                break;
+            }
+            if (node.children.isEmpty()) {
+                parent.children.remove(node.edge.charAt(0));
+                path.remove(i);
+            } else if (node.children.size() == 1) {
+                Node only = node.children.values().iterator().next();
+                only.edge = node.edge + only.edge;
+                parent.children.put(only.edge.charAt(0), only);
+                path.set(i, only);
+                break;
+            } else {
+                break;
+            }
+        }
+    }
+
+    private void refresh(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            Map<Long, Suggestion> candidates = new LinkedHashMap<>();
+            for (Long id : node.terminals) {
+                candidates.put(id, entries.get(id));
+            }
+            for (Node child : node.children.values()) {
+                for (Suggestion suggestion : child.top) {
+                    candidates.putIfAbsent(suggestion.getId(), suggestion);
+                }
+            }
+            node.top = candidates.values().stream().sorted(RANKING).limit(limit).toList();
+        }
+    }
+
+    private static int commonPrefix(String edge, String key, int offset) {
+        int max = Math.min(edge.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && edge.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    static Set<String> keys(String label) {
+        String normalized = normalize(label);
+        Set<String> keys = new HashSet<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        keys.add(normalized);
+        for (int i = 1; i < normalized.length(); i++) {
+            if (normalized.charAt(i - 1) == ' ') {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node {
+        private String edge;
+        private final Map<Character, Node> children = new TreeMap<>();
+        private final Set<Long> terminals = new HashSet<>();
+        private List<Suggestion> top = List.of();
+
+        private Node(String edge) {
+            this.edge = edge;
+        }
+    }
+
+    public static final class Suggestion {
+        private final long id;
+        private final String label;
+        private final long score;
+
+        public Suggestion(long id, String label, long score) {
+            this.id = id;
+            this.label = label;
+            this.score = score;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public long getScore() {
+            return score;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.barbershop.service;
 
 import com.example.barbershop.cache.Cache;
+import com.example.barbershop.catalog.CatalogChangedEvent;
+import com.example.barbershop.catalog.CatalogChangedEvent.Kind;
 import com.example.barbershop.dto.AvailabilityDto;
 import com.example.barbershop.dto.BarberDto;
 import com.example.barbershop.mapper.BarberMapper;
 import com.example.barbershop.model.Barber;
+import com.example.barbershop.model.DayMask;
 import com.example.barbershop.model.Location;
 import com.example.barbershop.model.Offering;
 import com.example.barbershop.model.Order;
@@ -12,6 +15,7 @@ import com.example.barbershop.repository.BarberRepository;
 import com.example.barbershop.repository.LocationRepository;
 import com.example.barbershop.repository.OfferingRepository;
 import com.example.barbershop.repository.OrderRepository;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -24,8 +28,11 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -35,8 +42,11 @@ public class BarberService {
     private static final String LOCATION_NOT_FOUND = "Location not found";
     private static final String ALL_BARBERS_CACHE_KEY = "all_barbers";
     private static final String BARBER_CACHE_KEY_PREFIX = "barber_";
-    private static final int SLOT_DURATION_MINUTES = 30;
-    private static final int AVAILABILITY_DAYS = 7;
+    private static final String BOOKED_SLOTS_CACHE_KEY_PREFIX = "booked_slots_";
+    public static final int SLOT_DURATION_MINUTES = 30;
+    static final int AVAILABILITY_DAYS = 7;
+    private static final Duration BOOKED_SLOTS_TTL = Duration.ofSeconds(30);
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
     private static final Logger logger = LoggerFactory.getLogger(BarberService.class);
 
     private final BarberRepository barberRepository;
@@ -44,7 +54,9 @@ public class BarberService {
     private final LocationRepository locationRepository;
     private final OrderRepository orderRepository;
     private final Cache cache;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public List<BarberDto> findAll() {
         Optional<Object> cachedBarbers = cache.get(ALL_BARBERS_CACHE_KEY);
         if (cachedBarbers.isPresent()) {
@@ -60,6 +72,7 @@ public class BarberService {
         return barbers;
     }
 
+    @Transactional
     public Optional<BarberDto> findById(Long id) {
         String cacheKey = BARBER_CACHE_KEY_PREFIX + id;
 
@@ -83,6 +96,7 @@ public class BarberService {
 
         String cacheKey = BARBER_CACHE_KEY_PREFIX + saved.getBarberId();
         cache.remove(ALL_BARBERS_CACHE_KEY);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(Kind.BARBER, saved.getBarberId()));
         cache.put(cacheKey, savedDto);
 
         return savedDto;
@@ -93,7 +107,7 @@ public class BarberService {
         Barber barber = barberRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException(BARBER_NOT_FOUND));
         barber.setName(barberDto.getName());
-        barber.setAvailableDays(barberDto.getAvailableDays());
+        barber.setAvailableDays(DayMask.copy(barberDto.getAvailableDays()));
         barber.setStartTime(barberDto.getStartTime());
         barber.setEndTime(barberDto.getEndTime());
         Barber updated = barberRepository.save(barber);
@@ -103,6 +117,7 @@ public class BarberService {
         cache.put(cacheKey, updatedDto);
 
         cache.remove(ALL_BARBERS_CACHE_KEY);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(Kind.BARBER, id));
 
         return updatedDto;
     }
@@ -114,6 +129,7 @@ public class BarberService {
         cache.remove(cacheKey);
 
         cache.remove(ALL_BARBERS_CACHE_KEY);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(Kind.BARBER, id));
     }
 
     @Transactional
@@ -129,6 +145,7 @@ public class BarberService {
         offeringRepository.save(offering);
 
         cache.remove(ALL_BARBERS_CACHE_KEY);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(Kind.BARBER, barberId));
 
         return BarberMapper.toDto(barber);
     }
@@ -146,6 +163,7 @@ public class BarberService {
         offeringRepository.save(offering);
 
         cache.remove(ALL_BARBERS_CACHE_KEY);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(Kind.BARBER, barberId));
 
         return BarberMapper.toDto(barber);
     }
@@ -163,6 +181,7 @@ public class BarberService {
         locationRepository.save(location);
 
         cache.remove(ALL_BARBERS_CACHE_KEY);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(Kind.BARBER, barberId));
 
         return BarberMapper.toDto(barber);
     }
@@ -180,22 +199,116 @@ public class BarberService {
         locationRepository.save(location);
 
         cache.remove(ALL_BARBERS_CACHE_KEY);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(Kind.BARBER, barberId));
 
         return BarberMapper.toDto(barber);
     }
 
+    @Transactional
+    public List<AvailabilityDto> getAvailability(Long barberId) {
+        Barber barber = barberRepository.findById(barberId)
+                .orElseThrow(() -> new RuntimeException(BARBER_NOT_FOUND));
+
+        LocalDate today = LocalDate.now();
+        Set<LocalDateTime> booked = bookedSlots(barberId, today);
+
+        List<AvailabilityDto> availability = availableSlots(today, LocalDateTime.now(),
+                DayMask.of(barber.getAvailableDays()), barber.getStartTime().toLocalTime(),
+                barber.getEndTime().toLocalTime(), booked);
+
+        logger.info("Computed {} available days for barberId: {}", availability.size(), barberId);
+        return availability;
+    }
+
+    /**
+     * Drops the booked slots cached for availability; called after every order write. Inside
+     * a transaction the entry is dropped once more after commit, so a concurrent read cannot
+     * put back the slots as they were before the write.
+     */
+    public void evictBookedSlots(Long barberId) {
+        String cacheKey = BOOKED_SLOTS_CACHE_KEY_PREFIX + barberId;
+        cache.remove(cacheKey);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            cache.remove(cacheKey);
+                        }
+                    });
+        }
+    }
+
+    private Set<LocalDateTime> bookedSlots(Long barberId, LocalDate today) {
+        String cacheKey = BOOKED_SLOTS_CACHE_KEY_PREFIX + barberId;
+        Optional<Object> cached = cache.get(cacheKey);
+        if (cached.isPresent() && ((BookedSlots) cached.get()).isCurrent(today)) {
+            return ((BookedSlots) cached.get()).slots;
+        }
+
+        Set<LocalDateTime> booked = orderRepository
+                .findByBarberIdAndDateRange(barberId, today.atStartOfDay(),
+                        today.plusDays(AVAILABILITY_DAYS).atStartOfDay()).stream()
+                .map(Order::getOrderDate)
+                .collect(Collectors.toUnmodifiableSet());
+        cache.put(cacheKey, new BookedSlots(today, booked));
+        return booked;
+    }
+
+    /** Free slots per working day for the {@value #AVAILABILITY_DAYS} days from today. */
+    static List<AvailabilityDto> availableSlots(LocalDate today, LocalDateTime now,
+                                                int workingDays, LocalTime start,
+                                                LocalTime end, Set<LocalDateTime> booked) {
+        List<AvailabilityDto> availability = new ArrayList<>();
+        for (int i = 0; i < AVAILABILITY_DAYS; i++) {
+            LocalDate date = today.plusDays(i);
+            if (!DayMask.contains(workingDays, date.getDayOfWeek())) {
+                continue;
+            }
+
+            List<String> times = new ArrayList<>();
+            for (LocalTime slot = start; slot.isBefore(end);
+                 slot = slot.plusMinutes(SLOT_DURATION_MINUTES)) {
+                LocalDateTime slotStart = date.atTime(slot);
+                if (slotStart.isAfter(now) && !booked.contains(slotStart)) {
+                    times.add(slot.format(TIME_FORMATTER));
+                }
+                if (slot.plusMinutes(SLOT_DURATION_MINUTES).isBefore(slot)) {
+                    break;
+                }
+            }
+
+            if (!times.isEmpty()) {
+                AvailabilityDto dto = new AvailabilityDto();
+                dto.setDate(date.toString());
+                dto.setTimes(times);
+                availability.add(dto);
+            }
+        }
+        return availability;
+    }
+
+    @Transactional(readOnly = true)
     public List<BarberDto> getBarbersByLocationName(String locationName) {
         return barberRepository.findBarbersByLocationName(locationName).stream()
                 .map(BarberMapper::toDto)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<BarberDto> getBarbersByLocationNameNative(String locationName) {
         return barberRepository.findBarbersByLocationNameNative(locationName).stream()
                 .map(BarberMapper::toDto)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public List<BarberDto> getBarbersWorkingOn(Barber.DayOfWeek day) {
+        return barberRepository.findByAvailableDaysMaskIn(DayMask.masksContaining(day)).stream()
+                .map(BarberMapper::toDto)
+                .toList();
+    }
+
     @Transactional
     public List<BarberDto> saveAll(List<BarberDto> barberDtos) {
         List<BarberDto> savedDtos = barberDtos.stream()
@@ -205,6 +318,8 @@ public class BarberService {
                 .collect(Collectors.toList());
 
         cache.remove(ALL_BARBERS_CACHE_KEY);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Kind.BARBER,
+                savedDtos.stream().map(BarberDto::getBarberId).toList()));
 
         savedDtos.forEach(dto ->
                 cache.put(BARBER_CACHE_KEY_PREFIX + dto.getBarberId(), dto)
@@ -212,4 +327,25 @@ public class BarberService {
 
         return savedDtos;
     }
+
+    /**
+     * Booked slot starts of the availability window that begins on {@code from}. Kept for at
+     * most {@link #BOOKED_SLOTS_TTL}, which bounds how long a read from a lagging replica can
+     * hide a booking.
+     */
+    private static final class BookedSlots {
+        private final LocalDate from;
+        private final Set<LocalDateTime> slots;
+        private final long loadedAt = System.nanoTime();
+
+        private BookedSlots(LocalDate from, Set<LocalDateTime> slots) {
+            this.from = from;
+            this.slots = slots;
+        }
+
+        private boolean isCurrent(LocalDate today) {
+            return from.equals(today)
+                    && System.nanoTime() - loadedAt < BOOKED_SLOTS_TTL.toNanos();
+        }
+    }
 }
@@ -0,0 +1,153 @@
+package com.example.barbershop.service;
+
+import com.example.barbershop.cache.Cache;
+import com.example.barbershop.catalog.CatalogService;
+import com.example.barbershop.repository.OrderRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the reference lists, the booking catalog and the availability of the busiest barbers
+ * into {@link Cache} before the application reports itself ready. Spring Boot calls
+ * {@link ApplicationRunner}s before it publishes {@code ReadinessState.ACCEPTING_TRAFFIC}, so
+ * a new instance only joins the load balancer once this is done or the budget runs out.
+ * Tasks run in parallel on the cache-refresh pool; whatever is unfinished at the deadline is
+ * left to the first requests.
+ */
+@Component
+public class CacheWarmup implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmup.class);
+
+    private final BarberService barberService;
+    private final OfferingService offeringService;
+    private final LocationService locationService;
+    private final CatalogService catalogService;
+    private final OrderRepository orderRepository;
+    private final AsyncTaskExecutor executor;
+    private final boolean enabled;
+    private final Duration budget;
+    private final int availabilityLimit;
+    private volatile boolean stopped;
+
+    public CacheWarmup(BarberService barberService, OfferingService offeringService,
+                       LocationService locationService, CatalogService catalogService,
+                       OrderRepository orderRepository,
+                       @Qualifier("cacheRefreshExecutor") AsyncTaskExecutor executor,
+                       @Value("${cache.warmup.enabled:true}") boolean enabled,
+                       @Value("${cache.warmup.budget:PT20S}") Duration budget,
+                       @Value("${cache.warmup.availability-limit:500}") int availabilityLimit) {
+        this.barberService = barberService;
+        this.offeringService = offeringService;
+        this.locationService = locationService;
+        this.catalogService = catalogService;
+        this.orderRepository = orderRepository;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.budget = budget;
+        this.availabilityLimit = availabilityLimit;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            warmUp();
+        }
+    }
+
+    /** Names of the tasks that completed successfully within the budget. */
+    List<String> warmUp() {
+        long started = System.nanoTime();
+        stopped = false;
+        Map<String, CompletableFuture<Boolean>> tasks = new LinkedHashMap<>();
+        tasks.put("barbers", submit("barbers", barberService::findAll));
+        tasks.put("offerings", submit("offerings", offeringService::findAll));
+        tasks.put("locations", submit("locations", locationService::findAll));
+        tasks.put("catalog", submit("catalog", catalogService::refresh));
+        tasks.put("availability", submit("availability", this::warmAvailability));
+
+        try {
+            CompletableFuture.allOf(tasks.values().toArray(new CompletableFuture<?>[0]))
+                    .get(budget.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Cache warm-up budget of {} ran out", budget);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Tasks catch their own failures, so this is not expected.
+            logger.warn("Cache warm-up failed: {}", e.getMessage());
+        }
+        stopped = true;
+
+        List<String> finished = new ArrayList<>();
+        List<String> unfinished = new ArrayList<>();
+        tasks.forEach((name, task) -> {
+            if (task.isDone() && task.join()) {
+                finished.add(name);
+            } else {
+                unfinished.add(name);
+            }
+        });
+        logger.info("Cache warm-up took {} ms, warmed: {}, not warmed: {}",
+                (System.nanoTime() - started) / 1_000_000, finished, unfinished);
+        return finished;
+    }
+
+    private CompletableFuture<Boolean> submit(String name, Runnable task) {
+        return CompletableFuture.supplyAsync(() -> {
+            long started = System.nanoTime();
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to warm up {}: {}", name, e.getMessage());
+                return false;
+            }
+            logger.info("Warmed up {} in {} ms", name, (System.nanoTime() - started) / 1_000_000);
+            return true;
+        }, executor);
+    }
+
+    /** Availability of the barbers with the most bookings in the window, busiest first. */
+    private void warmAvailability() {
+        LocalDateTime from = LocalDate.now().atStartOfDay();
+        List<Long> barberIds = orderRepository
+                .countByBarberBetween(from, from.plusDays(BarberService.AVAILABILITY_DAYS))
+                .stream()
+                .sorted(Comparator.comparingLong(OrderRepository.IdCount::getCount).reversed())
+                .limit(availabilityLimit)
+                .map(OrderRepository.IdCount::getId)
+                .toList();
+        int warmed = 0;
+        for (Long barberId : barberIds) {
+            if (stopped) {
+                break;
+            }
+            try {
+                barberService.getAvailability(barberId);
+                warmed++;
+            } catch (RuntimeException e) {
+                logger.warn("Failed to warm up availability for barberId {}: {}", barberId,
+                        e.getMessage());
+            }
+        }
+        logger.info("Warmed up availability for {} of {} barbers", warmed, barberIds.size());
+    }
+}
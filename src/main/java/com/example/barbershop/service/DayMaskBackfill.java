@@ -0,0 +1,112 @@
+package com.example.barbershop.service;
+
+import com.example.barbershop.model.Barber;
+import com.example.barbershop.model.DayMask;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves barber working days from the {@code available_days} column of earlier versions,
+ * where Hibernate stored the set as a serialized list, into {@code available_days_mask}.
+ * ddl-auto adds the mask column as 0, which reads as never working, so rows still at 0 are
+ * decoded from the old column while it exists. Barbers left without working days cannot be
+ * booked and are reported. Runs before {@link CacheWarmup} loads the catalog.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DayMaskBackfill implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DayMaskBackfill.class);
+    private static final String LEGACY_ROWS = "SELECT barber_id, available_days FROM barber "
+            + "WHERE available_days_mask = 0 AND available_days IS NOT NULL";
+    private static final String UPDATE_MASK =
+            "UPDATE barber SET available_days_mask = ? WHERE barber_id = ?";
+    private static final String COUNT_UNSET =
+            "SELECT COUNT(*) FROM barber WHERE available_days_mask = 0";
+    private static final ObjectInputFilter LEGACY_CLASSES = ObjectInputFilter.Config.createFilter(
+            "java.util.ArrayList;java.util.HashSet;java.lang.Enum;java.lang.Object;"
+                    + Barber.DayOfWeek.class.getName() + ";!*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public DayMaskBackfill(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            backfill();
+            Long unset = jdbcTemplate.queryForObject(COUNT_UNSET, Long.class);
+            if (unset != null && unset > 0) {
+                logger.warn("{} barbers have no working days and cannot be booked", unset);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Failed to check barber working days: {}", e.getMessage());
+        }
+    }
+
+    private void backfill() {
+        List<Object[]> updates = new ArrayList<>();
+        try {
+            jdbcTemplate.query(LEGACY_ROWS, (RowCallbackHandler) row -> {
+                long barberId = row.getLong(1);
+                int mask = decodeLegacyDays(row.getBytes(2));
+                if (mask < 0) {
+                    logger.warn("Cannot decode legacy working days of barber {}", barberId);
+                } else if (mask > 0) {
+                    updates.add(new Object[] {mask, barberId});
+                }
+            });
+        } catch (BadSqlGrammarException e) {
+            logger.debug("No legacy available_days column: {}", e.getMessage());
+            return;
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_MASK, updates);
+            entityManagerFactory.getCache().evict(Barber.class);
+            logger.info("Backfilled working days of {} barbers", updates.size());
+        }
+    }
+
+    /** Mask of a serialized collection of days, or -1 when the value is not one. */
+    static int decodeLegacyDays(byte[] value) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(value))) {
+            in.setObjectInputFilter(LEGACY_CLASSES);
+            if (!(in.readObject() instanceof Collection<?> days)) {
+                return -1;
+            }
+            Set<Barber.DayOfWeek> result = EnumSet.noneOf(Barber.DayOfWeek.class);
+            for (Object day : days) {
+                if (!(day instanceof Barber.DayOfWeek dayOfWeek)) {
+                    return -1;
+                }
+                result.add(dayOfWeek);
+            }
+            return DayMask.of(result);
+        } catch (IOException | ClassNotFoundException e) {
+            return -1;
+        }
+    }
+}
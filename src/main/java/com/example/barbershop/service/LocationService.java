@@ -1,6 +1,8 @@
 package com.example.barbershop.service;
 
 import com.example.barbershop.cache.Cache;
+import com.example.barbershop.catalog.CatalogChangedEvent;
+import com.example.barbershop.catalog.CatalogChangedEvent.Kind;
 import com.example.barbershop.dto.LocationDto;
 import com.example.barbershop.mapper.LocationMapper;
 import com.example.barbershop.model.Location;
@@ -9,6 +11,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,7 +24,9 @@ public class LocationService {
 
     private final LocationRepository locationRepository;
     private final Cache cache;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public List<LocationDto> findAll() {
         Optional<Object> cachedLocations = cache.get(ALL_LOCATIONS_CACHE_KEY);
         if (cachedLocations.isPresent()) {
@@ -37,6 +42,7 @@ public class LocationService {
         return locations;
     }
 
+    @Transactional
     public Optional<LocationDto> findById(Long id) {
         String cacheKey = LOCATION_CACHE_KEY_PREFIX + id;
 
@@ -63,6 +69,8 @@ public class LocationService {
         cache.put(cacheKey, savedDto);
 
         cache.remove(ALL_LOCATIONS_CACHE_KEY);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(Kind.LOCATION,
+                savedLocation.getLocationId()));
 
         return savedDto;
     }
@@ -74,6 +82,8 @@ public class LocationService {
 
         existingLocation.setName(locationDto.getName());
         existingLocation.setAddress(locationDto.getAddress());
+        existingLocation.setLatitude(locationDto.getLatitude());
+        existingLocation.setLongitude(locationDto.getLongitude());
 
         Location updatedLocation = locationRepository.save(existingLocation);
         LocationDto updatedDto = LocationMapper.toDto(updatedLocation);
@@ -82,6 +92,7 @@ public class LocationService {
         cache.put(cacheKey, updatedDto);
 
         cache.remove(ALL_LOCATIONS_CACHE_KEY);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(Kind.LOCATION, locationId));
 
         return updatedDto;
     }
@@ -94,5 +105,6 @@ public class LocationService {
         cache.remove(cacheKey);
 
         cache.remove(ALL_LOCATIONS_CACHE_KEY);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(Kind.LOCATION, locationId));
     }
 }
\ No newline at end of file
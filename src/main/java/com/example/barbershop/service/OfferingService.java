@@ -1,6 +1,8 @@
 package com.example.barbershop.service;
 
 import com.example.barbershop.cache.Cache;
+import com.example.barbershop.catalog.CatalogChangedEvent;
+import com.example.barbershop.catalog.CatalogChangedEvent.Kind;
 import com.example.barbershop.dto.OfferingDto;
 import com.example.barbershop.mapper.OfferingMapper;
 import com.example.barbershop.model.Offering;
@@ -11,7 +13,9 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 
 @Service
@@ -24,7 +28,9 @@ public class OfferingService {
 
     private final OfferingRepository offeringRepository;
     private final Cache cache;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public List<OfferingDto> findAll() {
         Optional<Object> cachedOfferings = cache.get(ALL_OFFERINGS_CACHE_KEY);
         if (cachedOfferings.isPresent()) {
@@ -40,6 +46,7 @@ public class OfferingService {
         return offerings;
     }
 
+    @Transactional
     public Optional<OfferingDto> findById(Long id) {
         String cacheKey = OFFERING_CACHE_KEY_PREFIX + id;
 
@@ -56,6 +63,7 @@ public class OfferingService {
         return offeringDto;
     }
 
+    @Transactional
     public List<OfferingDto> findByBarberId(Long barberId) {
         String cacheKey = OFFERING_CACHE_KEY_PREFIX + "barber_" + barberId;
 
@@ -90,6 +98,8 @@ public class OfferingService {
         cache.put(cacheKey, savedDto);
 
         cache.remove(ALL_OFFERINGS_CACHE_KEY);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(Kind.OFFERING,
+                saved.getOfferingId()));
 
         return savedDto;
     }
@@ -107,6 +117,7 @@ public class OfferingService {
         cache.put(cacheKey, updatedDto);
 
         cache.remove(ALL_OFFERINGS_CACHE_KEY);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(Kind.OFFERING, id));
 
         return updatedDto;
     }
@@ -118,5 +129,6 @@ public class OfferingService {
         cache.remove(cacheKey);
 
         cache.remove(ALL_OFFERINGS_CACHE_KEY);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(Kind.OFFERING, id));
     }
 }
\ No newline at end of file
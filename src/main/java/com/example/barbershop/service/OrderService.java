@@ -1,6 +1,8 @@
 package com.example.barbershop.service;
 
 import com.example.barbershop.cache.Cache;
+import com.example.barbershop.catalog.Catalog;
+import com.example.barbershop.catalog.CatalogService;
 import com.example.barbershop.dto.OrderDto;
 import com.example.barbershop.exception.ValidationException;
 import com.example.barbershop.mapper.OrderMapper;
@@ -14,6 +16,7 @@ import com.example.barbershop.repository.LocationRepository;
 import com.example.barbershop.repository.OfferingRepository;
 import com.example.barbershop.repository.OrderRepository;
 import com.example.barbershop.repository.UserRepository;
+import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
@@ -41,7 +44,10 @@ public class OrderService {
     private final LocationRepository  locationRepository;
     private final UserRepository      userRepository;
     private final Cache               cache;
+    private final CatalogService      catalogService;
+    private final BarberService       barberService;
 
+    @Transactional
     public List<OrderDto> findAll() {
         Optional<Object> cached = cache.get(ALL_ORDERS_CACHE_KEY);
         if (cached.isPresent()) {
@@ -54,6 +60,7 @@ public class OrderService {
         return dtos;
     }
 
+    @Transactional
     public Optional<OrderDto> findById(Long id) {
         String key = ORDER_CACHE_KEY_PREFIX + id;
         Optional<Object> cached = cache.get(key);
@@ -82,52 +89,58 @@ public class OrderService {
             throw new ValidationException("Order date cannot be more than 6 months in the future");
         }
 
-        Barber barber = barberRepository.findById(dto.getBarberId())
-                .orElseThrow(() -> new ValidationException(BARBER_NOT_FOUND));
-        Offering offering = offeringRepository.findById(dto.getOfferingId())
-                .orElseThrow(() -> new ValidationException(OFFERING_NOT_FOUND));
+        Catalog catalog = catalogService.getCatalog();
+        long barberId = requireId(dto.getBarberId(), BARBER_NOT_FOUND);
+        long offeringId = requireId(dto.getOfferingId(), OFFERING_NOT_FOUND);
+        long locationId = requireId(dto.getLocationId(), LOCATION_NOT_FOUND);
+        if (!catalog.hasBarber(barberId)) {
+            throw new ValidationException(BARBER_NOT_FOUND);
+        }
+        if (!catalog.hasOffering(offeringId)) {
+            throw new ValidationException(OFFERING_NOT_FOUND);
+        }
 
-        if (!barber.getOfferings().contains(offering)) {
+        if (!catalog.offers(barberId, offeringId)) {
             throw new ValidationException("Barber does not provide the selected offering");
         }
 
-        Location location = locationRepository.findById(dto.getLocationId())
-                .orElseThrow(() -> new ValidationException(LOCATION_NOT_FOUND));
+        if (!catalog.hasLocation(locationId)) {
+            throw new ValidationException(LOCATION_NOT_FOUND);
+        }
 
-        Barber.DayOfWeek orderDay = Barber.DayOfWeek.valueOf(dto.getOrderDate()
-                .getDayOfWeek().name());
-        if (!barber.getAvailableDays().contains(orderDay)) {
+        DayOfWeek orderDay = dto.getOrderDate().getDayOfWeek();
+        if (!catalog.worksOn(barberId, orderDay)) {
             throw new ValidationException("Barber does not work on " + orderDay);
         }
 
         LocalTime orderTime = dto.getOrderDate().toLocalTime();
-        LocalTime barberStart = barber.getStartTime().toLocalTime();
-        LocalTime barberEnd = barber.getEndTime().toLocalTime();
-
-        if (orderTime.isBefore(barberStart) || orderTime.isAfter(barberEnd)) {
+        if (!catalog.worksAt(barberId, orderTime)) {
             throw new ValidationException("Barber is not available at " + orderTime
-                    + ". Works from " + barberStart + " to " + barberEnd);
+                    + ". Works from " + catalog.startTime(barberId)
+                    + " to " + catalog.endTime(barberId));
         }
 
-        if (barber.getLocation() != null && !barber.getLocation().getLocationId()
-                .equals(location.getLocationId())) {
+        if (!catalog.worksAtLocation(barberId, locationId)) {
             throw new ValidationException("Barber does not work at the selected location");
         }
 
-        User user = userRepository.findById(dto.getUserId())
-                .orElseThrow(() -> new ValidationException(USER_NOT_FOUND));
+        // The catalog does not track users, so they are checked with a primary-key lookup.
+        if (!userRepository.existsById(requireId(dto.getUserId(), USER_NOT_FOUND))) {
+            throw new ValidationException(USER_NOT_FOUND);
+        }
 
         Order order = OrderMapper.toEntity(dto);
-        order.setBarber(barber);
-        order.setOffering(offering);
-        order.setLocation(location);
-        order.setUser(user);
+        order.setBarber(barberRepository.getReferenceById(barberId));
+        order.setOffering(offeringRepository.getReferenceById(offeringId));
+        order.setLocation(locationRepository.getReferenceById(locationId));
+        order.setUser(userRepository.getReferenceById(dto.getUserId()));
 
-        Order saved = orderRepository.save(order);
+        Order saved = orderRepository.saveAndFlush(order);
         OrderDto savedDto = OrderMapper.toDto(saved);
 
         cache.remove(ALL_ORDERS_CACHE_KEY);
         cache.put(ORDER_CACHE_KEY_PREFIX + saved.getOrderId(), savedDto);
+        barberService.evictBookedSlots(barberId);
 
         return savedDto;
     }
@@ -136,6 +149,7 @@ public class OrderService {
     public OrderDto update(Long id, OrderDto dto) {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new ValidationException(ORDER_NOT_FOUND));
+        Barber previousBarber = order.getBarber();
 
         if (dto.getOrderDate() != null) {
             order.setOrderDate(dto.getOrderDate());
@@ -166,12 +180,33 @@ public class OrderService {
 
         cache.remove(ALL_ORDERS_CACHE_KEY);
         cache.put(ORDER_CACHE_KEY_PREFIX + id, updatedDto);
+        if (previousBarber != null) {
+            barberService.evictBookedSlots(previousBarber.getBarberId());
+        }
+        evictBookedSlots(updated);
 
         return updatedDto;
     }
 
+    private void evictBookedSlots(Order order) {
+        if (order.getBarber() != null) {
+            barberService.evictBookedSlots(order.getBarber().getBarberId());
+        }
+    }
+
+    private static long requireId(Long id, String message) {
+        if (id == null) {
+            throw new ValidationException(message);
+        }
+        return id;
+    }
+
+    @Transactional
     public void deleteById(Long id) {
-        orderRepository.deleteById(id);
+        orderRepository.findById(id).ifPresent(order -> {
+            orderRepository.delete(order);
+            evictBookedSlots(order);
+        });
         cache.remove(ORDER_CACHE_KEY_PREFIX + id);
         cache.remove(ALL_ORDERS_CACHE_KEY);
     }
@@ -180,6 +215,6 @@ public class OrderService {
     public List<OrderDto> saveAll(List<OrderDto> dtos) {
         return dtos.stream()
                 .map(this::save)
-                .collect(Stream.toList());
+                .collect(Collectors.toList());
     }
 }
@@ -1,21 +1,226 @@
 package com.example.barbershop.service;
 
+import com.example.barbershop.dto.UniqueVisitsDto;
+import com.example.barbershop.dto.VisitStatsDto;
+import com.example.barbershop.exception.ValidationException;
+import com.example.barbershop.metrics.HeavyHitters;
+import com.example.barbershop.metrics.HyperLogLog;
+import com.example.barbershop.metrics.MinuteWindow;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 public class VisitCounter {
 
-    private final Map<String, AtomicLong> visitCounts = new ConcurrentHashMap<>();
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "/(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})"
+                    + "(?=/|$)");
+    private static final int FIVE_MINUTES = 5;
+    private static final int HOUR = 60;
+
+    private final Map<String, UrlCounter> visitCounts = new ConcurrentHashMap<>();
+    private final HeavyHitters overflow;
+    private final LongAdder overflowTotal = new LongAdder();
+    private final NavigableMap<LocalDate, Map<String, HyperLogLog>> uniqueVisitors =
+            new ConcurrentSkipListMap<>();
+    private final int maxUrls;
+    private final int uniqueRetentionDays;
+    private final List<String> perIdPrefixes;
+    private final Clock clock;
+
+    @Autowired
+    public VisitCounter(@Value("${visits.max-urls:1000}") int maxUrls,
+                        @Value("${visits.heavy-hitters:64}") int heavyHitters,
+                        @Value("${visits.unique.retention-days:31}") int uniqueRetentionDays,
+                        @Value("${visits.unique.per-id-prefixes:/locations}")
+                        List<String> perIdPrefixes) {
+        this(maxUrls, heavyHitters, uniqueRetentionDays, perIdPrefixes,
+                Clock.systemDefaultZone());
+    }
+
+    VisitCounter(int maxUrls, int heavyHitters, int uniqueRetentionDays,
+                 List<String> perIdPrefixes, Clock clock) {
+        this.maxUrls = maxUrls;
+        this.overflow = new HeavyHitters(heavyHitters);
+        this.uniqueRetentionDays = uniqueRetentionDays;
+        this.perIdPrefixes = perIdPrefixes.stream()
+                .map(prefix -> prefix.endsWith("/") ? prefix : prefix + "/")
+                .toList();
+        this.clock = clock;
+    }
+
+    public static String normalize(String uri) {
+        String template = ID_SEGMENT.matcher(uri).replaceAll("/{id}");
+        if (template.length() > 1 && template.endsWith("/")) {
+            template = template.substring(0, template.length() - 1);
+        }
+        return template;
+    }
 
     public void incrementVisit(String url) {
-        visitCounts.computeIfAbsent(url, k -> new AtomicLong(0)).incrementAndGet();
+        String template = normalize(url);
+        UrlCounter counter = visitCounts.get(template);
+        if (counter == null) {
+            if (visitCounts.size() >= maxUrls) {
+                overflowTotal.increment();
+                overflow.offer(template);
+                return;
+            }
+            counter = visitCounts.computeIfAbsent(template, key -> new UrlCounter());
+        }
+        counter.total.increment();
+        counter.window.increment(currentMinute());
+    }
+
+    public void recordVisit(String url, String visitorId) {
+        incrementVisit(url);
+        if (visitorId == null) {
+            return;
+        }
+        String template = normalize(url);
+        Map<String, HyperLogLog> today = sketchesFor(LocalDate.now(clock));
+        addVisitor(today, template, visitorId);
+        String exact = exactKey(url);
+        if (exact != null && !exact.equals(template)) {
+            addVisitor(today, exact, visitorId);
+        }
+    }
+
+    public UniqueVisitsDto getUniqueVisitors(String url, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new ValidationException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= uniqueRetentionDays) {
+            throw new ValidationException("Range cannot exceed " + uniqueRetentionDays + " days");
+        }
+        String exact = exactKey(url);
+        String key = exact != null ? exact : normalize(url);
+        HyperLogLog merged = new HyperLogLog();
+        for (Map<String, HyperLogLog> day : uniqueVisitors.subMap(from, true, to, true).values()) {
+            HyperLogLog sketch = day.get(key);
+            if (sketch != null) {
+                merged.merge(sketch);
+            }
+        }
+        UniqueVisitsDto dto = new UniqueVisitsDto();
+        dto.setUrl(key);
+        dto.setFrom(from.toString());
+        dto.setTo(to.toString());
+        dto.setUniqueVisitors(merged.estimate());
+        return dto;
     }
 
     public long getVisitCount(String url) {
-        AtomicLong counter = visitCounts.get(url);
-        return counter != null ? counter.get() : 0;
+        String template = normalize(url);
+        UrlCounter counter = visitCounts.get(template);
+        return counter != null ? counter.total.sum() : overflow.estimate(template);
+    }
+
+    public VisitStatsDto getVisitStats(String url) {
+        String template = normalize(url);
+        UrlCounter counter = visitCounts.get(template);
+        if (counter != null) {
+            return toDto(template, counter, currentMinute());
+        }
+        VisitStatsDto dto = new VisitStatsDto();
+        dto.setUrl(template);
+        dto.setTotal(overflow.estimate(template));
+        dto.setEstimated(true);
+        return dto;
+    }
+
+    public List<VisitStatsDto> getTopVisited(int limit) {
+        long minute = currentMinute();
+        List<VisitStatsDto> top = new ArrayList<>();
+        visitCounts.forEach((template, counter) -> top.add(toDto(template, counter, minute)));
+        for (HeavyHitters.Entry entry : overflow.top(limit)) {
+            VisitStatsDto dto = new VisitStatsDto();
+            dto.setUrl(entry.getKey());
+            dto.setTotal(entry.getCount());
+            dto.setEstimated(true);
+            top.add(dto);
+        }
+        top.sort(Comparator.comparingLong(VisitStatsDto::getTotal).reversed());
+        return top.subList(0, Math.min(limit, top.size()));
+    }
+
+    public Map<String, Long> getTotals() {
+        Map<String, Long> totals = new HashMap<>(visitCounts.size() * 2);
+        visitCounts.forEach((template, counter) -> totals.put(template, counter.total.sum()));
+        return totals;
+    }
+
+    public void restoreTotals(Map<String, Long> totals) {
+        totals.forEach((template, total) -> {
+            if (visitCounts.size() < maxUrls || visitCounts.containsKey(template)) {
+                visitCounts.computeIfAbsent(template, key -> new UrlCounter()).total.add(total);
+            }
+        });
+    }
+
+    public long getOverflowCount() {
+        return overflowTotal.sum();
+    }
+
+    private Map<String, HyperLogLog> sketchesFor(LocalDate date) {
+        Map<String, HyperLogLog> sketches = uniqueVisitors.get(date);
+        if (sketches == null) {
+            sketches = uniqueVisitors.computeIfAbsent(date, key -> new ConcurrentHashMap<>());
+            uniqueVisitors.headMap(date.minusDays(uniqueRetentionDays), true).clear();
+        }
+        return sketches;
+    }
+
+    private void addVisitor(Map<String, HyperLogLog> sketches, String key, String visitorId) {
+        HyperLogLog sketch = sketches.get(key);
+        if (sketch == null) {
+            if (sketches.size() >= maxUrls) {
+                return;
+            }
+            sketch = sketches.computeIfAbsent(key, k -> new HyperLogLog());
+        }
+        sketch.add(visitorId);
+    }
+
+    private String exactKey(String url) {
+        for (String prefix : perIdPrefixes) {
+            if (url.startsWith(prefix) && url.length() > prefix.length()) {
+                return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+            }
+        }
+        return null;
+    }
+
+    private VisitStatsDto toDto(String template, UrlCounter counter, long minute) {
+        VisitStatsDto dto = new VisitStatsDto();
+        dto.setUrl(template);
+        dto.setTotal(counter.total.sum());
+        dto.setLastFiveMinutes(counter.window.sum(minute, FIVE_MINUTES));
+        dto.setLastHour(counter.window.sum(minute, HOUR));
+        dto.setLastDay(counter.window.sum(minute, MinuteWindow.MINUTES));
+        return dto;
+    }
+
+    private long currentMinute() {
+        return clock.millis() / 60_000;
+    }
+
+    private static final class UrlCounter {
+        private final LongAdder total = new LongAdder();
+        private final MinuteWindow window = new MinuteWindow();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,109 @@
+package com.example.barbershop.service;
+
+import com.example.barbershop.model.VisitStat;
+import com.example.barbershop.repository.VisitStatRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+/**
+ * Write-behind storage for {@link VisitCounter} totals. Requests only touch the in-memory
+ * counters; this service periodically upserts the growth since the last flush in JDBC
+ * batches, and restores the stored totals on startup.
+ */
+@Service
+@ConditionalOnProperty(name = "visits.persistence.enabled", havingValue = "true",
+        matchIfMissing = true)
+public class VisitCounterPersister {
+
+    private static final Logger logger = LoggerFactory.getLogger(VisitCounterPersister.class);
+    private static final String UPSERT = "INSERT INTO visit_stats (url, total) VALUES (?, ?) "
+            + "AS new ON DUPLICATE KEY UPDATE total = total + new.total";
+
+    private final VisitCounter visitCounter;
+    private final VisitStatRepository visitStatRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Map<String, Long> persisted = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public VisitCounterPersister(VisitCounter visitCounter,
+                                 VisitStatRepository visitStatRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 @Value("${visits.persistence.batch-size:500}") int batchSize) {
+        this.visitCounter = visitCounter;
+        this.visitStatRepository = visitStatRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    void load() {
+        lock.lock();
+        try {
+            Map<String, Long> totals = new HashMap<>();
+            for (VisitStat stat : visitStatRepository.findAll()) {
+                totals.put(stat.getUrl(), stat.getTotal());
+            }
+            visitCounter.restoreTotals(totals);
+            persisted.putAll(visitCounter.getTotals());
+            logger.info("Restored visit totals for {} URLs", totals.size());
+        } catch (DataAccessException | TransactionException e) {
+            logger.warn("Failed to restore visit totals: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${visits.persistence.flush-interval:PT10S}",
+            initialDelayString = "${visits.persistence.flush-interval:PT10S}")
+    @PreDestroy
+    public void flush() {
+        lock.lock();
+        try {
+            write();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write() {
+        List<Object[]> deltas = new ArrayList<>();
+        Map<String, Long> totals = visitCounter.getTotals();
+        totals.forEach((url, total) -> {
+            long delta = total - persisted.getOrDefault(url, 0L);
+            if (delta > 0) {
+                deltas.add(new Object[] {url, delta});
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            for (int from = 0; from < deltas.size(); from += batchSize) {
+                List<Object[]> batch = deltas.subList(from, Math.min(from + batchSize,
+                        deltas.size()));
+                jdbcTemplate.batchUpdate(UPSERT, batch);
+                for (Object[] row : batch) {
+                    persisted.merge((String) row[0], (Long) row[1], Long::sum);
+                }
+            }
+            logger.debug("Flushed visit totals for {} URLs", deltas.size());
+        } catch (DataAccessException e) {
+            logger.warn("Failed to flush visit totals, will retry: {}", e.getMessage());
+        }
+    }
+}
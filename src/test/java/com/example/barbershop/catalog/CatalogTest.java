@@ -0,0 +1,118 @@
+package com.example.barbershop.catalog;
+
+import com.example.barbershop.model.Barber;
+import com.example.barbershop.model.Location;
+import com.example.barbershop.model.Offering;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Time;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogTest {
+
+    private Catalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        Location centre = location(1L);
+        Location north = location(2L);
+        List<Offering> offerings = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            offerings.add(offering(id * 10));
+        }
+
+        Barber fixed = barber(7L, centre, Set.of(Barber.DayOfWeek.MONDAY,
+                Barber.DayOfWeek.SUNDAY), offerings.get(0), offerings.get(99));
+        Barber mobile = barber(8L, null, Set.of(Barber.DayOfWeek.FRIDAY), offerings.get(64));
+
+        catalog = Catalog.build(List.of(fixed, mobile), offerings, List.of(centre, north));
+    }
+
+    @Test
+    void build_indexesAllIds() {
+        assertTrue(catalog.hasBarber(7L));
+        assertTrue(catalog.hasOffering(1000L));
+        assertTrue(catalog.hasLocation(2L));
+        assertFalse(catalog.hasBarber(9L));
+        assertFalse(catalog.hasOffering(5L));
+        assertFalse(catalog.hasLocation(3L));
+    }
+
+    @Test
+    void offers_usesBitsetAcrossWords() {
+        assertTrue(catalog.offers(7L, 10L));
+        assertTrue(catalog.offers(7L, 1000L));
+        assertTrue(catalog.offers(8L, 650L));
+        assertFalse(catalog.offers(7L, 650L));
+        assertFalse(catalog.offers(9L, 10L));
+    }
+
+    @Test
+    void worksOn_matchesDayMask() {
+        assertTrue(catalog.worksOn(7L, DayOfWeek.MONDAY));
+        assertTrue(catalog.worksOn(7L, DayOfWeek.SUNDAY));
+        assertFalse(catalog.worksOn(7L, DayOfWeek.FRIDAY));
+        assertTrue(catalog.worksOn(8L, DayOfWeek.FRIDAY));
+    }
+
+    @Test
+    void worksAt_boundsAreInclusive() {
+        assertTrue(catalog.worksAt(7L, LocalTime.of(9, 0)));
+        assertTrue(catalog.worksAt(7L, LocalTime.of(18, 0)));
+        assertFalse(catalog.worksAt(7L, LocalTime.of(18, 0, 1)));
+        assertEquals(LocalTime.of(9, 0), catalog.startTime(7L));
+        assertEquals(LocalTime.of(18, 0), catalog.endTime(7L));
+        assertNull(catalog.startTime(9L));
+    }
+
+    @Test
+    void worksAtLocation_allowsBarbersWithoutLocation() {
+        assertTrue(catalog.worksAtLocation(7L, 1L));
+        assertFalse(catalog.worksAtLocation(7L, 2L));
+        assertTrue(catalog.worksAtLocation(8L, 2L));
+    }
+
+    @Test
+    void barbersAt_groupsByLocation() {
+        assertArrayEquals(new long[] {7L}, catalog.barbersAt(1L));
+        assertEquals(0, catalog.barbersAt(2L).length);
+    }
+
+    @Test
+    void empty_knowsNothing() {
+        assertFalse(Catalog.EMPTY.hasBarber(1L));
+        assertFalse(Catalog.EMPTY.offers(1L, 1L));
+        assertFalse(Catalog.EMPTY.worksAtLocation(1L, 1L));
+    }
+
+    private static Barber barber(long id, Location location, Set<Barber.DayOfWeek> days,
+                                 Offering... offerings) {
+        Barber barber = new Barber();
+        barber.setBarberId(id);
+        barber.setLocation(location);
+        barber.setAvailableDays(days);
+        barber.setStartTime(Time.valueOf(LocalTime.of(9, 0)));
+        barber.setEndTime(Time.valueOf(LocalTime.of(18, 0)));
+        barber.setOfferings(Set.of(offerings));
+        return barber;
+    }
+
+    private static Offering offering(long id) {
+        Offering offering = new Offering();
+        offering.setOfferingId(id);
+        return offering;
+    }
+
+    private static Location location(long id) {
+        Location location = new Location();
+        location.setLocationId(id);
+        return location;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.barbershop.config;
+
+import com.example.barbershop.dto.ExecutorStatsDto;
+import com.example.barbershop.exception.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ManagedExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ManagedExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void execute_rejectsWhenSaturated() {
+        executor = start(ExecutorProperties.Rejection.REJECT);
+        executor.execute(this::block);
+        executor.execute(this::block);
+
+        TaskRejectedException rejected = assertThrows(TaskRejectedException.class,
+                () -> executor.execute(this::block));
+        ServiceBusyException busy = assertInstanceOf(ServiceBusyException.class,
+                rejected.getCause());
+        assertEquals(Duration.ofSeconds(5), busy.getRetryAfter());
+
+        ExecutorStatsDto stats = executor.getStats();
+        assertEquals(1, stats.getActive());
+        assertEquals(1, stats.getQueued());
+        assertEquals(1, stats.getRejected());
+    }
+
+    @Test
+    void execute_callerRunsWhenSaturated() {
+        executor = start(ExecutorProperties.Rejection.CALLER_RUNS);
+        executor.execute(this::block);
+        executor.execute(this::block);
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        assertSame(Thread.currentThread(), ranOn.get());
+        assertEquals(1, executor.getStats().getRejected());
+    }
+
+    @Test
+    void getStats_recordsQueueWait() throws Exception {
+        executor = start(ExecutorProperties.Rejection.REJECT);
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(this::block);
+        executor.execute(done::countDown);
+        Thread.sleep(50);
+        release.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(executor.getStats().getQueueWaitMaxMs() >= 40);
+    }
+
+    private ManagedExecutor start(ExecutorProperties.Rejection rejection) {
+        ExecutorProperties.Pool pool = new ExecutorProperties.Pool();
+        pool.setCoreSize(1);
+        pool.setMaxSize(1);
+        pool.setQueueCapacity(1);
+        pool.setRejection(rejection);
+        pool.setRetryAfter(Duration.ofSeconds(5));
+        ManagedExecutor managed = new ManagedExecutor("test", pool, false);
+        managed.initialize();
+        return managed;
+    }
+
+    private void block() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.barbershop.config;
+
+import com.example.barbershop.dto.OrderDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderDtoJsonSerializerTest {
+
+    @Test
+    void serialize_matchesBeanSerializer() throws JsonProcessingException {
+        List<OrderDto> orders = new ArrayList<>();
+        orders.add(order(1L, LocalDateTime.of(2025, 1, 1, 9, 0)));
+        orders.add(order(2L, LocalDateTime.of(2025, 12, 31, 23, 59, 59)));
+        orders.add(order(3L, LocalDateTime.of(987, 6, 5, 4, 3, 2)));
+        orders.add(order(4L, LocalDateTime.of(2025, 3, 4, 5, 6, 7, 120_000_000)));
+        orders.add(order(5L, LocalDateTime.of(12025, 1, 1, 0, 0)));
+        orders.add(order(6L, LocalDateTime.of(-1, 1, 1, 0, 0)));
+        orders.add(new OrderDto());
+
+        for (boolean timestamps : new boolean[] {false, true}) {
+            assertEquals(mapper(false, timestamps).writeValueAsString(orders),
+                    mapper(true, timestamps).writeValueAsString(orders));
+        }
+        assertEquals("{\"orderId\":1,\"orderDate\":\"2025-01-01T09:00:00\",\"barberId\":10,"
+                        + "\"offeringId\":20,\"locationId\":30,\"userId\":40}",
+                mapper(true, false).writeValueAsString(orders.get(0)));
+    }
+
+    private static OrderDto order(long id, LocalDateTime date) {
+        OrderDto order = new OrderDto();
+        order.setOrderId(id);
+        order.setOrderDate(date);
+        order.setBarberId(10L);
+        order.setOfferingId(20L);
+        order.setLocationId(30L);
+        order.setUserId(40L);
+        return order;
+    }
+
+    private static ObjectMapper mapper(boolean custom, boolean timestamps) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (timestamps) {
+            builder.featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        } else {
+            builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        }
+        if (custom) {
+            builder.modulesToInstall(new SimpleModule("orders")
+                    .addSerializer(OrderDto.class, new OrderDtoJsonSerializer()));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.barbershop.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T12:00:00Z");
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReplicaLagMonitor monitor;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate routed;
+    private TransactionTemplate reads;
+    private TransactionTemplate writes;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primarySource = database("primary");
+        DataSource replicaSource = database("replica");
+        primary = new JdbcTemplate(primarySource);
+        replica = new JdbcTemplate(replicaSource);
+
+        monitor = new ReplicaLagMonitor(primary, replica, Duration.ofSeconds(5), true,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        routing = new ReplicaRoutingDataSource(primarySource, replicaSource, monitor);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        routed = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager =
+                new DataSourceTransactionManager(dataSource);
+        reads = new TransactionTemplate(transactionManager);
+        reads.setReadOnly(true);
+        writes = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void readOnlyTransactions_goToFreshReplica() {
+        monitor.init();
+        replicate(Duration.ofSeconds(2));
+
+        assertTrue(monitor.isUsable());
+        assertEquals(2000, monitor.getLagMillis());
+        assertEquals("replica", reads.execute(status -> marker()));
+        assertEquals("primary", writes.execute(status -> marker()));
+        assertEquals("primary", marker());
+        assertEquals(1, routing.getStatus().getReplicaReads());
+    }
+
+    @Test
+    void readOnlyTransactions_fallBackWhenReplicaLags() {
+        monitor.init();
+        replicate(Duration.ofSeconds(6));
+
+        assertFalse(monitor.isUsable());
+        assertEquals("primary", reads.execute(status -> marker()));
+        assertEquals(1, routing.getStatus().getFallbackReads());
+    }
+
+    @Test
+    void replicaWithoutHeartbeat_isNotUsed() {
+        monitor.init();
+
+        assertFalse(monitor.isUsable());
+        assertEquals(-1, monitor.getLagMillis());
+        assertEquals("primary", reads.execute(status -> marker()));
+    }
+
+    @Test
+    void withoutLagCheck_reachableReplicaIsUsed() {
+        monitor = new ReplicaLagMonitor(primary, replica, Duration.ofSeconds(5), false,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        monitor.init();
+
+        assertTrue(monitor.isUsable());
+    }
+
+    private String marker() {
+        return routed.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    /** Stands in for replication: copies the heartbeat with the given delay. */
+    private void replicate(Duration lag) {
+        Long beat = primary.queryForObject("SELECT beat_millis FROM "
+                + ReplicaLagMonitor.HEARTBEAT_TABLE + " WHERE id = 1", Long.class);
+        replica.execute("CREATE TABLE IF NOT EXISTS " + ReplicaLagMonitor.HEARTBEAT_TABLE
+                + " (id INT PRIMARY KEY, beat_millis BIGINT NOT NULL)");
+        replica.update("MERGE INTO " + ReplicaLagMonitor.HEARTBEAT_TABLE
+                + " (id, beat_millis) KEY (id) VALUES (1, ?)", beat - lag.toMillis());
+        monitor.check();
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + DATABASES.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE marker (name VARCHAR(16))");
+        jdbc.update("INSERT INTO marker VALUES (?)", name);
+        return dataSource;
+    }
+}
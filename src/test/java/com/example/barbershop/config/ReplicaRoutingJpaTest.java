@@ -0,0 +1,118 @@
+package com.example.barbershop.config;
+
+import com.example.barbershop.cache.Cache;
+import com.example.barbershop.dto.BarberDto;
+import com.example.barbershop.model.Barber;
+import com.example.barbershop.service.BarberService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Time;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the services on JPA over a primary and a replica that never receives the writes,
+ * i.e. a replica lagging behind forever.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "spring.jpa.properties.hibernate.connection.handling_mode="
+                + "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReplicaRoutingJpaTest.RoutingConfig.class, BarberService.class, Cache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaRoutingJpaTest {
+
+    private static final JdbcTemplate PRIMARY = new JdbcTemplate(database("primary"));
+    private static final JdbcTemplate REPLICA = new JdbcTemplate(database("replica"));
+
+    @Autowired
+    private BarberService barberService;
+
+    @Autowired
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        REPLICA.execute("DROP ALL OBJECTS");
+        for (String statement : PRIMARY.queryForList("SCRIPT NODATA", String.class)) {
+            REPLICA.execute(statement);
+        }
+    }
+
+    @Test
+    void cachedReads_seeWritesTheReplicaHasNotReceived() {
+        barberService.findAll();
+
+        BarberDto saved = barberService.save(barber("Fresh Barber"));
+
+        assertTrue(barberIds(barberService.findAll()).contains(saved.getBarberId()));
+        assertTrue(barberIds(barberService.findAll()).contains(saved.getBarberId()));
+        assertFalse(barberService.getAvailability(saved.getBarberId()).isEmpty());
+    }
+
+    @Test
+    void uncachedReadOnlyReads_stillGoToReplica() {
+        barberService.save(barber("Fresh Barber"));
+        long replicaReads = routing.getStatus().getReplicaReads();
+
+        assertTrue(barberService.getBarbersWorkingOn(Barber.DayOfWeek.MONDAY).isEmpty());
+        assertTrue(routing.getStatus().getReplicaReads() > replicaReads);
+    }
+
+    private static List<Long> barberIds(List<BarberDto> barbers) {
+        return barbers.stream().map(BarberDto::getBarberId).toList();
+    }
+
+    private static BarberDto barber(String name) {
+        BarberDto dto = new BarberDto();
+        dto.setName(name);
+        dto.setAvailableDays(EnumSet.allOf(Barber.DayOfWeek.class));
+        dto.setStartTime(Time.valueOf("00:00:00"));
+        dto.setEndTime(Time.valueOf("23:59:00"));
+        return dto;
+    }
+
+    private static DataSource database(String name) {
+        return new DriverManagerDataSource(
+                "jdbc:h2:mem:jpa-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    @TestConfiguration
+    static class RoutingConfig {
+
+        @Bean
+        ReplicaRoutingDataSource routingDataSource() {
+            ReplicaLagMonitor monitor = new ReplicaLagMonitor(PRIMARY, REPLICA,
+                    Duration.ofSeconds(5), false, Clock.systemUTC());
+            monitor.init();
+            return new ReplicaRoutingDataSource(PRIMARY.getDataSource(), REPLICA.getDataSource(),
+                    monitor);
+        }
+
+        @Bean
+        @Primary
+        DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+            return new LazyConnectionDataSourceProxy(routingDataSource);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.barbershop.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchingAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("test");
+    private BlockingAppender target;
+    private BatchingAsyncAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        target = new BlockingAppender();
+        target.setContext(context);
+        target.start();
+        appender = new BatchingAsyncAppender();
+        appender.setContext(context);
+        appender.setName("async");
+        appender.setQueueSize(4);
+        appender.setBatchSize(1);
+        appender.setDiscardingThreshold(2);
+        appender.addAppender(target);
+    }
+
+    @AfterEach
+    void tearDown() {
+        target.release.countDown();
+        appender.stop();
+    }
+
+    @Test
+    void append_dropsInfoBelowThresholdAndBlocksOnWarn() throws InterruptedException {
+        appender.start();
+        appender.doAppend(event(Level.WARN, "busy"));
+        assertTrue(target.entered.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 3; i++) {
+            appender.doAppend(event(Level.INFO, "info " + i));
+        }
+        assertEquals(3, appender.getQueuedCount());
+        assertEquals(0, appender.getDroppedCount());
+
+        appender.doAppend(event(Level.INFO, "dropped"));
+        appender.doAppend(event(Level.WARN, "queued"));
+        assertEquals(1, appender.getDroppedCount());
+        assertEquals(4, appender.getQueuedCount());
+
+        Thread producer = new Thread(() -> appender.doAppend(event(Level.ERROR, "blocked")));
+        producer.start();
+        producer.join(200);
+        assertTrue(producer.isAlive());
+
+        target.release.countDown();
+        producer.join(5_000);
+        assertFalse(producer.isAlive());
+        awaitWritten(6);
+        assertEquals(List.of("busy", "info 0", "info 1", "info 2", "queued", "blocked"),
+                target.messages);
+        assertEquals(1, appender.getDroppedCount());
+        assertEquals(6, appender.getAppendedCount());
+    }
+
+    @Test
+    void stop_flushesQueuedEventsAndStopsAttachedAppenders() throws InterruptedException {
+        appender.setMaxFlushTime(5_000);
+        appender.start();
+        appender.doAppend(event(Level.WARN, "first"));
+        assertTrue(target.entered.await(5, TimeUnit.SECONDS));
+        appender.doAppend(event(Level.WARN, "second"));
+        appender.doAppend(event(Level.WARN, "third"));
+
+        target.release.countDown();
+        appender.stop();
+
+        assertEquals(List.of("first", "second", "third"), target.messages);
+        assertFalse(target.isStarted());
+        assertFalse(appender.isAttached(target));
+    }
+
+    @Test
+    void stop_leavesAttachedAppendersToSlowWriter() throws InterruptedException {
+        appender.setMaxFlushTime(50);
+        appender.start();
+        appender.doAppend(event(Level.WARN, "slow"));
+        assertTrue(target.entered.await(5, TimeUnit.SECONDS));
+        appender.doAppend(event(Level.WARN, "pending"));
+
+        appender.stop();
+        assertTrue(target.isStarted());
+
+        target.release.countDown();
+        awaitWritten(2);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (target.isStarted() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(target.isStarted());
+        assertEquals(0, target.writesAfterStop.get());
+    }
+
+    private void awaitWritten(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (target.messages.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, target.messages.size());
+    }
+
+    private ILoggingEvent event(Level level, String message) {
+        return new LoggingEvent(Logger.class.getName(), logger, level, message, null, null);
+    }
+
+    /** Blocks inside writes until released, ignoring interrupts like a stalled disk write. */
+    private static final class BlockingAppender extends AppenderBase<ILoggingEvent> {
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger writesAfterStop = new AtomicInteger();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            entered.countDown();
+            boolean interrupted = false;
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (!isStarted()) {
+                writesAfterStop.incrementAndGet();
+            }
+            messages.add(event.getFormattedMessage());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.barbershop.log;
+
+import com.example.barbershop.model.LogFileTask;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LogFieldTest {
+
+    private static final String DATE = "2025-04-01";
+    private static final String LOGGER = "c.e.b.service.OrderService";
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private LogFileGenerator generator;
+
+    // configured like the application's mapper, which ignores the derived "finished" property
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private Path source;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        source = Files.writeString(tempDir.resolve("barbershop-" + DATE + ".log"), "line\n");
+    }
+
+    @Test
+    void createLogFileTask_reusesTaskForSameDateLevelAndLogger() throws Exception {
+        when(generator.generateLogFileAsync(any()))
+                .thenAnswer(call -> complete(call.getArgument(0)));
+        LogField logField = logField(10);
+
+        String first = logField.createLogFileTask(DATE, "info", LOGGER);
+
+        assertEquals(first, logField.createLogFileTask(DATE, "INFO", LOGGER));
+        assertNotEquals(first, logField.createLogFileTask(DATE, "ERROR", LOGGER));
+        assertNotEquals(first, logField.createLogFileTask(DATE, "INFO", null));
+        verify(generator, times(3)).generateLogFileAsync(any());
+    }
+
+    @Test
+    void createLogFileTask_regeneratesWhenSourceSizeOrTimeChanges() throws Exception {
+        when(generator.generateLogFileAsync(any()))
+                .thenAnswer(call -> complete(call.getArgument(0)));
+        LogField logField = logField(10);
+        String first = logField.createLogFileTask(DATE, "INFO", LOGGER);
+
+        Files.writeString(source, "line\nmore\n");
+        String afterResize = logField.createLogFileTask(DATE, "INFO", LOGGER);
+        Files.setLastModifiedTime(source, FileTime.from(Instant.now().plusSeconds(60)));
+        String afterTouch = logField.createLogFileTask(DATE, "INFO", LOGGER);
+
+        assertNotEquals(first, afterResize);
+        assertNotEquals(afterResize, afterTouch);
+        assertEquals(afterTouch, logField.createLogFileTask(DATE, "INFO", LOGGER));
+    }
+
+    @Test
+    void createLogFileTask_evictsOnlyFinishedTasksOverMaxSize() throws Exception {
+        when(generator.generateLogFileAsync(any()))
+                .thenReturn(new CompletableFuture<>())
+                .thenAnswer(call -> complete(call.getArgument(0)))
+                .thenReturn(new CompletableFuture<>());
+        LogField logField = logField(1);
+
+        String pending = logField.createLogFileTask(DATE, "INFO", LOGGER);
+        String finished = logField.createLogFileTask(DATE, "WARN", LOGGER);
+        Path output = logField.getLogFilePath(finished);
+        String newest = logField.createLogFileTask(DATE, "ERROR", LOGGER);
+
+        assertNotNull(logField.getTaskStatus(pending));
+        assertNull(logField.getTaskStatus(finished));
+        assertNotNull(logField.getTaskStatus(newest));
+        assertFalse(Files.exists(output));
+    }
+
+    @Test
+    void cleanUp_removesFinishedTasksPastTtl() throws Exception {
+        when(generator.generateLogFileAsync(any()))
+                .thenAnswer(call -> complete(call.getArgument(0), Duration.ofHours(2)))
+                .thenAnswer(call -> complete(call.getArgument(0)))
+                .thenReturn(new CompletableFuture<>());
+        LogField logField = logField(10);
+        String expired = logField.createLogFileTask(DATE, "INFO", LOGGER);
+        Path expiredOutput = logField.getLogFilePath(expired);
+        String fresh = logField.createLogFileTask(DATE, "WARN", LOGGER);
+        String pending = logField.createLogFileTask(DATE, "ERROR", LOGGER);
+
+        logField.cleanUp();
+
+        assertNull(logField.getTaskStatus(expired));
+        assertFalse(Files.exists(expiredOutput));
+        assertTrue(Files.exists(logField.getLogFilePath(fresh)));
+        assertNotNull(logField.getTaskStatus(pending));
+    }
+
+    @Test
+    void loadRegistry_restoresTasksSavedByPreviousRun() throws Exception {
+        when(generator.generateLogFileAsync(any()))
+                .thenAnswer(call -> complete(call.getArgument(0)))
+                .thenReturn(new CompletableFuture<>());
+        LogField previous = logField(10);
+        String completed = previous.createLogFileTask(DATE, "INFO", LOGGER);
+        String interrupted = previous.createLogFileTask(DATE, "ERROR", LOGGER);
+        Path output = previous.getLogFilePath(completed);
+        previous.saveRegistry();
+        assertTrue(Files.exists(tempDir.resolve("log-tasks.json")));
+
+        LogField restored = logField(10);
+        restored.loadRegistry();
+
+        assertEquals(output, restored.getLogFilePath(completed));
+        assertEquals("FAILED", restored.getTaskStatus(interrupted).getStatus());
+        assertNotNull(restored.getTaskStatus(interrupted).getCompletedAt());
+        assertEquals(completed, restored.createLogFileTask(DATE, "INFO", LOGGER));
+        verify(generator, times(2)).generateLogFileAsync(any());
+    }
+
+    private LogField logField(int maxTasks) {
+        return new LogField(generator, objectMapper, maxTasks, Duration.ofHours(1), tempDir);
+    }
+
+    private CompletableFuture<LogFileTask> complete(LogFileTask task) throws Exception {
+        return complete(task, Duration.ZERO);
+    }
+
+    private CompletableFuture<LogFileTask> complete(LogFileTask task, Duration age)
+            throws Exception {
+        task.setSourceSize(Files.size(source));
+        task.setSourceLastModified(Files.getLastModifiedTime(source).toMillis());
+        task.setFilePath(Files.writeString(tempDir.resolve("task-" + task.getTaskId() + ".log"),
+                "line\n"));
+        task.setStatus("COMPLETED");
+        task.setCompletedAt(Instant.now().minus(age));
+        return CompletableFuture.completedFuture(task);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.barbershop.log;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogIndexServiceTest {
+
+    private static final String LINE_0955 =
+            "2025-04-01 09:55:00.000 ERROR c.e.b.service.OrderService - early failure\n";
+    private static final String LINE_1000 =
+            "2025-04-01 10:00:01.000 INFO  c.e.b.service.BarberService - Fetching all barbers\n";
+    private static final String LINE_1005 =
+            "2025-04-01 10:05:12.000 ERROR c.e.b.service.OrderService - Barber not found\n";
+    private static final String STACK = "\tat com.example.barbershop.Foo.bar(Foo.java:42)\n";
+    private static final String LINE_1010 =
+            "2025-04-01 10:10:40.000 WARN  c.e.b.controller.BarberController - slow\n";
+    private static final String LINE_1030 =
+            "2025-04-01 10:30:00.000 ERROR c.e.b.service.OrderService - late failure\n";
+
+    @TempDir
+    Path tempDir;
+
+    private LogIndexService logIndexService;
+    private Path logFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        logIndexService = new LogIndexService();
+        logFile = tempDir.resolve("barbershop-2025-04-01.log");
+        Files.writeString(logFile, LINE_0955 + LINE_1000 + LINE_1005 + STACK + LINE_1010
+                + LINE_1030, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void query_levelOnly() throws Exception {
+        assertEquals(LINE_0955 + LINE_1005 + LINE_1030, query("ERROR", null, null));
+    }
+
+    @Test
+    void query_timeWindow() throws Exception {
+        assertEquals(LINE_1000 + LINE_1005 + STACK + LINE_1010, query("all", "10:00", "10:15"));
+    }
+
+    @Test
+    void query_levelAndTimeWindow() throws Exception {
+        assertEquals(LINE_1005, query("ERROR", "10:00", "10:15"));
+        assertEquals(LINE_1005 + LINE_1010, query("WARN,ERROR", "10:00", "10:15"));
+    }
+
+    @Test
+    void query_emptyWindow() throws Exception {
+        assertEquals("", query("ERROR", "11:00", "12:00"));
+    }
+
+    @Test
+    void query_picksUpAppendedLines() throws Exception {
+        assertEquals(LINE_0955 + LINE_1005 + LINE_1030, query("ERROR", null, null));
+        String appended =
+                "2025-04-01 10:31:00.000 ERROR c.e.b.service.OrderService - appended\n";
+        Files.writeString(logFile, appended, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertEquals(LINE_1030 + appended, query("ERROR", "10:30", null));
+    }
+
+    @Test
+    void indexFor_writesSidecarForRolledFile() throws Exception {
+        logIndexService.indexFor(logFile);
+        assertTrue(Files.exists(tempDir.resolve("barbershop-2025-04-01.log.idx")));
+
+        LogIndexService reloaded = new LogIndexService();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reloaded.query(logFile, "ERROR", null, LocalTime.parse("10:00"), null, out);
+        assertEquals(LINE_1005 + LINE_1030, out.toString(StandardCharsets.UTF_8));
+    }
+
+    private String query(String level, String from, String to) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        logIndexService.query(logFile, level, null,
+                from == null ? null : LocalTime.parse(from),
+                to == null ? null : LocalTime.parse(to), out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
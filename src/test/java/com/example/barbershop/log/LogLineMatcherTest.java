@@ -0,0 +1,98 @@
+package com.example.barbershop.log;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogLineMatcherTest {
+
+    private static final String INFO_LINE =
+            "2025-04-01 10:15:30.123 INFO  c.e.b.service.BarberService - Fetching all barbers";
+    private static final String ERROR_LINE =
+            "2025-04-01 10:15:31.456 ERROR c.e.b.log.LoggingAspect - Ошибка в сервисе: save";
+    private static final String WARN_LINE =
+            "2025-04-01 10:15:32.789 WARN  c.e.b.controller.BarberController - Barber not found";
+    private static final String STACK_LINE = "\tat com.example.barbershop.Foo.bar(Foo.java:42)";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void matches_singleLevel() {
+        LogLineMatcher matcher = LogLineMatcher.of("error", null);
+        assertTrue(matcher.matches(ERROR_LINE));
+        assertFalse(matcher.matches(INFO_LINE));
+        assertFalse(matcher.matches(STACK_LINE));
+    }
+
+    @Test
+    void matches_paddedLevel() {
+        LogLineMatcher matcher = LogLineMatcher.of("INFO", null);
+        assertTrue(matcher.matches(INFO_LINE));
+        assertFalse(matcher.matches(WARN_LINE));
+    }
+
+    @Test
+    void matches_multipleLevels() {
+        LogLineMatcher matcher = LogLineMatcher.of("WARN, ERROR", null);
+        assertTrue(matcher.matches(ERROR_LINE));
+        assertTrue(matcher.matches(WARN_LINE));
+        assertFalse(matcher.matches(INFO_LINE));
+    }
+
+    @Test
+    void matches_loggerPrefix() {
+        LogLineMatcher matcher = LogLineMatcher.of("all", "c.e.b.controller");
+        assertTrue(matcher.matches(WARN_LINE));
+        assertFalse(matcher.matches(INFO_LINE));
+        assertFalse(matcher.matches(STACK_LINE));
+    }
+
+    @Test
+    void matches_rejectsMalformedTimestamp() {
+        LogLineMatcher matcher = LogLineMatcher.of("INFO", null);
+        assertFalse(matcher.matches("2025-4-01 10:15:30.123 INFO  c.e.b.Foo - bar"));
+        assertFalse(matcher.matches("2025-04-01"));
+    }
+
+    @Test
+    void all_acceptsEverything() {
+        LogLineMatcher matcher = LogLineMatcher.of("all", null);
+        assertTrue(matcher.acceptsEverything());
+        assertTrue(matcher.matches(STACK_LINE));
+    }
+
+    @Test
+    void copyMatching_keepsOnlyMatchingLines() throws Exception {
+        Path source = tempDir.resolve("barbershop-2025-04-01.log");
+        Files.writeString(source, String.join("\n", INFO_LINE, ERROR_LINE, STACK_LINE,
+                WARN_LINE, ERROR_LINE), StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LogLineMatcher.of("ERROR,WARN", null).copyMatching(source, out);
+
+        assertEquals(ERROR_LINE + "\n" + WARN_LINE + "\n" + ERROR_LINE + "\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void copyMatching_keepsLinesLongerThanTheWindow() throws Exception {
+        String longError = ERROR_LINE + " " + "x".repeat(300);
+        String longInfo = INFO_LINE + " " + "y".repeat(300);
+        Path source = tempDir.resolve("barbershop-2025-04-01.log");
+        Files.writeString(source, String.join("\n", WARN_LINE, longError, longInfo, WARN_LINE,
+                longError), StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LogLineMatcher.of("ERROR,WARN", null).copyMatching(source, 0, Long.MAX_VALUE, out, 128);
+
+        assertEquals(WARN_LINE + "\n" + longError + "\n" + WARN_LINE + "\n" + longError + "\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.barbershop.log;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogSearchServiceTest {
+
+    private static final LocalDate DAY_1 = LocalDate.of(2025, 4, 1);
+    private static final LocalDate DAY_2 = LocalDate.of(2025, 4, 2);
+
+    private static final String LINE_1_2358 =
+            "2025-04-01 23:58:00.000 INFO  c.e.b.service.BarberService - Fetching all barbers\n";
+    private static final String LINE_1_2359 =
+            "2025-04-01 23:59:59.000 ERROR c.e.b.service.OrderService - Barber not found\n";
+    private static final String STACK = "\tat com.example.barbershop.Foo.bar(Foo.java:42)\n";
+    private static final String LINE_2_0001 =
+            "2025-04-02 00:00:01.000 WARN  c.e.b.controller.BarberController - slow\n";
+    private static final String LINE_2_0002 =
+            "2025-04-02 00:00:02.000 INFO  c.e.b.service.OrderService - written late\n";
+    private static final String LINE_2_0003 =
+            "2025-04-02 00:00:03.000 ERROR c.e.b.service.OrderService - late failure\n";
+
+    @TempDir
+    Path tempDir;
+
+    private ExecutorService threads;
+    private LogSearchService logSearchService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        threads = Executors.newFixedThreadPool(2);
+        logSearchService = new LogSearchService(new TaskExecutorAdapter(threads), tempDir);
+        // the first file rolled over late, so its tail interleaves with the second file
+        Files.writeString(tempDir.resolve("barbershop-" + DAY_1 + ".log"),
+                LINE_1_2358 + LINE_1_2359 + STACK + LINE_2_0002);
+        Files.writeString(tempDir.resolve("barbershop-" + DAY_2 + ".log"),
+                LINE_2_0001 + LINE_2_0003);
+    }
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void search_mergesEntriesAcrossFilesByTimestamp() throws Exception {
+        assertEquals(LINE_1_2358 + LINE_1_2359 + STACK + LINE_2_0001 + LINE_2_0002 + LINE_2_0003,
+                search(null, null, 100));
+    }
+
+    @Test
+    void search_appliesLevelAndTextFilters() throws Exception {
+        assertEquals(LINE_1_2359 + STACK + LINE_2_0003, search("ERROR", null, 100));
+        assertEquals(LINE_1_2359 + STACK + LINE_2_0002 + LINE_2_0003,
+                search(null, "OrderService", 100));
+    }
+
+    @Test
+    void search_stopsAtLimit() throws Exception {
+        assertEquals(LINE_1_2358 + LINE_1_2359 + STACK + LINE_2_0001, search(null, null, 3));
+    }
+
+    @Test
+    void search_stopsScanningOnceLimitIsReached() throws Exception {
+        writeDays(DAY_1, 2, 5_000);
+
+        // the merge drains the first file only, so the second one is left mid-scan
+        String result = search(null, null, 1_000);
+
+        assertEquals(1_000, result.lines().count());
+        assertTrue(result.lines().allMatch(line -> line.startsWith("2025-04-01")));
+        threads.shutdown();
+        assertTrue(threads.awaitTermination(5, TimeUnit.SECONDS),
+                "scans should stop once the merge is done");
+    }
+
+    @Test
+    void search_mergesMoreFilesThanThreads() throws Exception {
+        threads.shutdownNow();
+        threads = Executors.newFixedThreadPool(4);
+        logSearchService = new LogSearchService(new TaskExecutorAdapter(threads), tempDir);
+        writeDays(DAY_1, 5, 1_000);
+
+        String result = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> searchDays(DAY_1, DAY_1.plusDays(4), 5_000));
+
+        List<String> lines = result.lines().toList();
+        assertEquals(5_000, lines.size());
+        assertEquals(lines.stream().sorted().toList(), lines);
+        assertEquals(1_000, assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> searchDays(DAY_1, DAY_1.plusDays(4), 1_000)).lines().count());
+    }
+
+    @Test
+    void search_mergesWhenScansRunOnTheCaller() throws Exception {
+        threads.shutdownNow();
+        threads = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.CallerRunsPolicy());
+        logSearchService = new LogSearchService(new TaskExecutorAdapter(threads), tempDir);
+        writeDays(DAY_1, 5, 1_000);
+
+        String result = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> searchDays(DAY_1, DAY_1.plusDays(4), 3_000));
+
+        assertEquals(3_000, result.lines().count());
+        assertTrue(result.lines().skip(2_000).allMatch(line -> line.startsWith("2025-04-03")));
+    }
+
+    private void writeDays(LocalDate first, int days, int linesPerDay) throws Exception {
+        for (int day = 0; day < days; day++) {
+            LocalDate date = first.plusDays(day);
+            StringBuilder lines = new StringBuilder();
+            for (int i = 0; i < linesPerDay; i++) {
+                lines.append(String.format("%s 10:00:%02d.%03d INFO  c.e.b.Foo - %d\n",
+                        date, i / 1000, i % 1000, i));
+            }
+            Files.writeString(tempDir.resolve("barbershop-" + date + ".log"), lines);
+        }
+    }
+
+    private String search(String levels, String query, int limit) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        logSearchService.search(DAY_1, DAY_2, levels, query, false, limit, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private String searchDays(LocalDate from, LocalDate to, int limit) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        logSearchService.search(from, to, null, null, false, limit, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.barbershop.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.barbershop.config.TracingProperties;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LoggingAspectTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LoggingAspect.class);
+    private final ListAppender<ILoggingEvent> events = new ListAppender<>();
+    private final TracingProperties properties = new TracingProperties();
+    private final LoggingAspect aspect = new LoggingAspect(properties);
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = logger.getLevel();
+        logger.setLevel(Level.INFO);
+        events.start();
+        logger.addAppender(events);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(events);
+        logger.setLevel(previousLevel);
+    }
+
+    @Test
+    void traceController_offLogsNothingButErrors() throws Throwable {
+        properties.setMode(TracingProperties.Mode.OFF);
+        Rendered argument = new Rendered("argument");
+
+        aspect.traceController(call("book", "done", argument));
+        ProceedingJoinPoint failing = call("book", null, argument);
+        when(failing.proceed()).thenThrow(new IllegalStateException("boom"));
+        assertThrows(IllegalStateException.class, () -> aspect.traceController(failing));
+
+        assertEquals(1, events.list.size());
+        assertEquals(Level.ERROR, events.list.get(0).getLevel());
+        events.list.forEach(ILoggingEvent::getFormattedMessage);
+        assertEquals(0, argument.renders.get());
+    }
+
+    @Test
+    void traceController_respectsRatesOfZeroAndOnePerEndpoint() throws Throwable {
+        properties.setMode(TracingProperties.Mode.SAMPLED);
+        properties.setSampleRate(0.5);
+        properties.setEndpoints(Map.of("SampleController.book", 0.0,
+                "SampleController.list", 1.0));
+
+        for (int i = 0; i < 50; i++) {
+            aspect.traceController(call("book", "done"));
+        }
+        assertTrue(events.list.isEmpty());
+
+        for (int i = 0; i < 50; i++) {
+            aspect.traceController(call("list", "done"));
+        }
+        assertEquals(100, events.list.size());
+        assertTrue(events.list.stream()
+                .allMatch(event -> event.getFormattedMessage().contains("SampleController.list")));
+    }
+
+    @Test
+    void traceController_stopsRenderingAtCap() throws Throwable {
+        properties.setMode(TracingProperties.Mode.SAMPLED);
+        properties.setMaxRenderLength(20);
+        Rendered first = new Rendered("a".repeat(30));
+        Rendered second = new Rendered("b");
+        Rendered third = new Rendered("c");
+
+        aspect.traceController(call("book", "done", List.of(first, second), third));
+
+        String entry = events.list.get(0).getFormattedMessage();
+        assertTrue(entry.endsWith("..."), entry);
+        assertEquals(1, first.renders.get());
+        assertEquals(0, second.renders.get());
+        assertEquals(0, third.renders.get());
+    }
+
+    private static ProceedingJoinPoint call(String method, Object result, Object... args)
+            throws Throwable {
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(SampleController.class.getMethod(method));
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        lenient().when(joinPoint.getArgs()).thenReturn(args);
+        lenient().when(joinPoint.proceed()).thenReturn(result);
+        return joinPoint;
+    }
+
+    static class SampleController {
+        public void book() {
+        }
+
+        public void list() {
+        }
+    }
+
+    private static final class Rendered {
+        private final String text;
+        private final AtomicInteger renders = new AtomicInteger();
+
+        private Rendered(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public String toString() {
+            renders.incrementAndGet();
+            return text;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.barbershop.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeavyHittersTest {
+
+    @Test
+    void offer_countsExactlyBelowCapacity() {
+        HeavyHitters sketch = new HeavyHitters(4, 1);
+        for (int i = 0; i < 5; i++) {
+            sketch.offer("a");
+        }
+        sketch.offer("b");
+        sketch.offer("b");
+        sketch.offer("c");
+
+        assertEquals(5, sketch.estimate("a"));
+        assertEquals(2, sketch.estimate("b"));
+        assertEquals(0, sketch.estimate("d"));
+        List<HeavyHitters.Entry> top = sketch.top(2);
+        assertEquals(List.of("a", "b"), top.stream().map(HeavyHitters.Entry::getKey).toList());
+        assertEquals(0, top.get(0).getError());
+    }
+
+    @Test
+    void offer_replacesSmallestCounterAndInheritsItsCount() {
+        HeavyHitters sketch = new HeavyHitters(2, 1);
+        sketch.offer("a");
+        sketch.offer("a");
+        sketch.offer("b");
+        sketch.offer("c");
+
+        assertEquals(0, sketch.estimate("b"));
+        assertEquals(2, sketch.estimate("c"));
+        HeavyHitters.Entry replaced = sketch.top(2).stream()
+                .filter(entry -> entry.getKey().equals("c")).findFirst().orElseThrow();
+        assertEquals(1, replaced.getError());
+    }
+
+    @Test
+    void offer_keepsKeysAboveTheGuarantee() {
+        Random random = new Random(42);
+        HeavyHitters sketch = new HeavyHitters(64, 4);
+        Map<String, Long> exact = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            String key = random.nextInt(4) == 0 ? "hot-" + random.nextInt(8)
+                    : "cold-" + random.nextInt(50_000);
+            sketch.offer(key);
+            exact.merge(key, 1L, Long::sum);
+        }
+
+        List<String> top = sketch.top(8).stream().map(HeavyHitters.Entry::getKey).toList();
+        for (int i = 0; i < 8; i++) {
+            String key = "hot-" + i;
+            assertTrue(top.contains(key), key);
+            assertTrue(sketch.estimate(key) >= exact.get(key));
+        }
+        for (HeavyHitters.Entry entry : sketch.top(64)) {
+            long count = exact.get(entry.getKey());
+            assertTrue(entry.getCount() - entry.getError() <= count, entry.getKey());
+        }
+    }
+
+    @Test
+    void offer_concurrentOffersAreNotLost() throws Exception {
+        HeavyHitters sketch = new HeavyHitters(64, 4);
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                writers.add(threads.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        sketch.offer("key-" + i % 16);
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+
+        for (int i = 0; i < 16; i++) {
+            assertEquals(2_500, sketch.estimate("key-" + i));
+        }
+    }
+}
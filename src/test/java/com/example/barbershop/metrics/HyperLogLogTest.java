@@ -0,0 +1,52 @@
+package com.example.barbershop.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimate_smallAndLargeCardinalities() {
+        for (int cardinality : new int[] {0, 1, 10, 1_000, 100_000, 1_000_000}) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (int i = 0; i < cardinality; i++) {
+                sketch.add("visitor-" + i);
+            }
+            assertEquals(cardinality, sketch.estimate(), Math.max(1, cardinality * 0.05),
+                    "cardinality " + cardinality);
+        }
+    }
+
+    @Test
+    void add_ignoresDuplicates() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int repeat = 0; repeat < 10; repeat++) {
+            for (int i = 0; i < 5_000; i++) {
+                sketch.add("visitor-" + i);
+            }
+        }
+        assertEquals(5_000, sketch.estimate(), 250);
+    }
+
+    @Test
+    void merge_countsUnion() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 20_000; i++) {
+            first.add("visitor-" + i);
+            second.add("visitor-" + (i + 10_000));
+        }
+        first.merge(second);
+        assertEquals(30_000, first.estimate(), 1_500);
+    }
+
+    @Test
+    void toBytes_roundTrips() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 12_345; i++) {
+            sketch.add("visitor-" + i);
+        }
+        assertEquals(sketch.estimate(), HyperLogLog.fromBytes(sketch.toBytes()).estimate());
+    }
+}
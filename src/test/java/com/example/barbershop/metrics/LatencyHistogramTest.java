@@ -0,0 +1,73 @@
+package com.example.barbershop.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void indexOf_roundTripsWithinOnePercent() {
+        for (long value = 1; value < (1L << 32); value = value * 3 + 1) {
+            long highest = LatencyHistogram.highestEquivalent(LatencyHistogram.indexOf(value));
+            assertTrue(highest >= value);
+            assertTrue(highest - value <= value / 100 + 1, "value " + value);
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1,
+                LatencyHistogram.indexOf((1L << 32) - 1));
+    }
+
+    @Test
+    void percentiles_uniformDistribution() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.record(i);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(5_000, snapshot.percentileMicros(50), 50);
+        assertEquals(9_900, snapshot.percentileMicros(99), 99);
+        assertEquals(9_990, snapshot.percentileMicros(99.9), 100);
+        assertEquals(10_000, snapshot.getMaxMicros());
+        assertEquals(5_000.5, snapshot.getMeanMicros(), 0.001);
+    }
+
+    @Test
+    void percentiles_emptyHistogram() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.percentileMicros(99));
+    }
+
+    @Test
+    void record_concurrentWritersLoseNothing() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.submit(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    histogram.recordNanos(1_000_000);
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(800_000, histogram.snapshot().getCount());
+        assertEquals(1_000, histogram.snapshot().percentileMicros(50), 10);
+    }
+
+    @Test
+    void reset_clearsRecordedValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.reset();
+        assertEquals(0, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().getMaxMicros());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.barbershop.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DayMaskTest {
+
+    @Test
+    void of_andToSet_roundTrip() {
+        Set<Barber.DayOfWeek> days = Set.of(Barber.DayOfWeek.MONDAY, Barber.DayOfWeek.SUNDAY);
+
+        int mask = DayMask.of(days);
+
+        assertEquals(0b1000001, mask);
+        assertEquals(EnumSet.copyOf(days), DayMask.toSet(mask));
+        assertEquals(0, DayMask.of(null));
+        assertTrue(DayMask.toSet(0).isEmpty());
+    }
+
+    @Test
+    void contains_matchesJavaTimeDays() {
+        int mask = DayMask.of(Set.of(Barber.DayOfWeek.WEDNESDAY));
+
+        assertTrue(DayMask.contains(mask, java.time.DayOfWeek.WEDNESDAY));
+        assertFalse(DayMask.contains(mask, java.time.DayOfWeek.THURSDAY));
+    }
+
+    @Test
+    void masksContaining_listsEveryMaskWithTheDay() {
+        List<Integer> masks = DayMask.masksContaining(Barber.DayOfWeek.SUNDAY);
+
+        assertEquals(64, masks.size());
+        assertTrue(masks.contains(0b1000000));
+        assertTrue(masks.contains(DayMask.ALL_DAYS));
+        assertTrue(masks.stream().allMatch(mask -> (mask & 0b1000000) != 0));
+    }
+
+    @Test
+    void converter_mapsNullColumnToEmptySet() {
+        DayMaskConverter converter = new DayMaskConverter();
+
+        assertTrue(converter.convertToEntityAttribute(null).isEmpty());
+        assertEquals(3, converter.convertToDatabaseColumn(
+                EnumSet.of(Barber.DayOfWeek.MONDAY, Barber.DayOfWeek.TUESDAY)));
+    }
+}
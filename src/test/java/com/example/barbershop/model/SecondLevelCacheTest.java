@@ -0,0 +1,78 @@
+package com.example.barbershop.model;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Time;
+import java.util.EnumSet;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void barber_secondSessionIsServedFromCache() {
+        Long barberId = inSession(entityManager -> {
+            Barber barber = new Barber();
+            barber.setName("Cached Barber");
+            barber.setAvailableDays(EnumSet.of(Barber.DayOfWeek.MONDAY));
+            barber.setStartTime(Time.valueOf("09:00:00"));
+            barber.setEndTime(Time.valueOf("17:00:00"));
+            entityManager.persist(barber);
+            return barber.getBarberId();
+        });
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        String first = inSession(entityManager -> entityManager.find(Barber.class, barberId)
+                .getName());
+        String second = inSession(entityManager -> entityManager.find(Barber.class, barberId)
+                .getName());
+
+        assertEquals("Cached Barber", first);
+        assertEquals(first, second);
+        assertEquals(1, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getSecondLevelCacheMissCount());
+        assertEquals(1, statistics.getSecondLevelCachePutCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(Barber.class.getName())
+                .getHitCount());
+    }
+
+    private <T> T inSession(Function<EntityManager, T> work) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            T result = work.apply(entityManager);
+            entityManager.getTransaction().commit();
+            return result;
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.barbershop.search;
+
+import com.example.barbershop.dto.BarberDto;
+import com.example.barbershop.dto.BarberSearchResultDto;
+import com.example.barbershop.model.Barber;
+import com.example.barbershop.model.Location;
+import com.example.barbershop.model.Offering;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Time;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BarberSearchIndexTest {
+
+    private BarberSearchIndex index;
+    private Offering haircut;
+    private Offering shave;
+    private Location centre;
+
+    @BeforeEach
+    void setUp() {
+        index = new BarberSearchIndex();
+        haircut = offering(1L, "Haircut");
+        shave = offering(2L, "Shave");
+        centre = location(10L, "Centre");
+        index.put(barber(1L, "Alexander Petrov", centre, Set.of(Barber.DayOfWeek.MONDAY),
+                9, 18, haircut));
+        index.put(barber(2L, "Alexey Ivanov", null, Set.of(Barber.DayOfWeek.SUNDAY),
+                12, 20, shave));
+        index.put(barber(3L, "Maria Alexandrova", centre, Set.of(Barber.DayOfWeek.MONDAY,
+                Barber.DayOfWeek.SUNDAY), 8, 14, haircut, shave));
+    }
+
+    @Test
+    void search_byPrefixRanksExactTokensFirst() {
+        index.put(barber(4L, "Alex", null, Set.of(), 9, 18));
+
+        assertEquals(List.of(4L, 1L, 2L, 3L), ids(search("alex")));
+        assertEquals(List.of(3L), ids(search("maria alex")));
+    }
+
+    @Test
+    void search_toleratesTypos() {
+        assertEquals(List.of(1L), ids(search("Petorv")));
+        assertEquals(List.of(1L), ids(search("Alexnader")));
+        assertTrue(ids(search("zz")).isEmpty());
+    }
+
+    @Test
+    void search_findsTyposAnywhereInTheToken() {
+        assertEquals(List.of(1L), ids(search("ePtrov")));
+        assertEquals(List.of(1L), ids(search("Qetrov")));
+        assertEquals(List.of(2L), ids(search("Ivanvo")));
+        assertEquals(List.of(3L), ids(search("Mraia")));
+        assertEquals(List.of(3L), ids(search("lAexandrov")));
+        assertTrue(ids(search("Qwerty")).isEmpty());
+    }
+
+    @Test
+    void search_fuzzyMatchingForgetsReplacedTokens() {
+        index.put(barber(1L, "Boris", null, Set.of(), 9, 18));
+
+        assertTrue(ids(search("Petorv")).isEmpty());
+        assertEquals(List.of(1L), ids(search("Borsi")));
+    }
+
+    @Test
+    void search_filtersByOfferingLocationDayAndTime() {
+        BarberQuery query = new BarberQuery();
+        query.setOfferingId(2L);
+        assertEquals(List.of(2L, 3L), ids(index.search(query)));
+
+        query = new BarberQuery();
+        query.setLocation("centre");
+        query.setDay(Barber.DayOfWeek.SUNDAY);
+        assertEquals(List.of(3L), ids(index.search(query)));
+
+        query = new BarberQuery();
+        query.setFrom(LocalTime.of(12, 0));
+        query.setTo(LocalTime.of(18, 0));
+        assertEquals(List.of(1L, 2L), ids(index.search(query)));
+    }
+
+    @Test
+    void search_pages() {
+        BarberQuery query = new BarberQuery();
+        query.setSize(2);
+        query.setPage(1);
+
+        BarberSearchResultDto result = index.search(query);
+
+        assertEquals(3, result.getTotal());
+        assertEquals(List.of(3L), ids(result));
+    }
+
+    @Test
+    void put_replacesPreviousPostings() {
+        index.put(barber(1L, "Boris", null, Set.of(), 9, 18, shave));
+
+        assertTrue(ids(search("petrov")).isEmpty());
+        assertEquals(List.of(1L), ids(search("boris")));
+        assertEquals(Set.of(1L, 2L, 3L), index.barbersWithOfferings(List.of(2L)));
+        assertEquals(Set.of(3L), index.barbersAtLocations(List.of(10L)));
+    }
+
+    @Test
+    void remove_dropsBarber() {
+        index.remove(3L);
+
+        assertEquals(2, index.size());
+        assertTrue(ids(search("maria")).isEmpty());
+        assertEquals(Set.of(1L), index.barbersWithOfferings(List.of(1L)));
+    }
+
+    @Test
+    void editDistance_countsTranspositionsAsOneEdit() {
+        assertTrue(EditDistance.within("petrov", "petorv", 1));
+        assertTrue(EditDistance.within("ivanov", "ivanow", 1));
+        assertFalse(EditDistance.within("ivanov", "ivnaow", 1));
+    }
+
+    private BarberSearchResultDto search(String text) {
+        BarberQuery query = new BarberQuery();
+        query.setQ(text);
+        return index.search(query);
+    }
+
+    private static List<Long> ids(BarberSearchResultDto result) {
+        return result.getItems().stream().map(BarberDto::getBarberId).toList();
+    }
+
+    private static Barber barber(long id, String name, Location location,
+                                 Set<Barber.DayOfWeek> days, int startHour, int endHour,
+                                 Offering... offerings) {
+        Barber barber = new Barber();
+        barber.setBarberId(id);
+        barber.setName(name);
+        barber.setLocation(location);
+        barber.setAvailableDays(days);
+        barber.setStartTime(Time.valueOf(LocalTime.of(startHour, 0)));
+        barber.setEndTime(Time.valueOf(LocalTime.of(endHour, 0)));
+        barber.setOfferings(Set.of(offerings));
+        return barber;
+    }
+
+    private static Offering offering(long id, String name) {
+        Offering offering = new Offering();
+        offering.setOfferingId(id);
+        offering.setName(name);
+        return offering;
+    }
+
+    private static Location location(long id, String name) {
+        Location location = new Location();
+        location.setLocationId(id);
+        location.setName(name);
+        return location;
+    }
+}
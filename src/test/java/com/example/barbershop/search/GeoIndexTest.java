@@ -0,0 +1,68 @@
+package com.example.barbershop.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoIndexTest {
+
+    @Test
+    void nearest_matchesBruteForce() {
+        Random random = new Random(42);
+        List<double[]> coordinates = new ArrayList<>();
+        List<GeoIndex.Point> points = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            double latitude = random.nextDouble() * 180 - 90;
+            double longitude = random.nextDouble() * 360 - 180;
+            coordinates.add(new double[] {latitude, longitude});
+            points.add(new GeoIndex.Point(i, latitude, longitude));
+        }
+        GeoIndex index = GeoIndex.build(points);
+
+        for (int query = 0; query < 50; query++) {
+            double latitude = random.nextDouble() * 180 - 90;
+            double longitude = random.nextDouble() * 360 - 180;
+            List<Long> expected = new ArrayList<>();
+            for (int i = 0; i < coordinates.size(); i++) {
+                expected.add((long) i);
+            }
+            expected.sort(Comparator.comparingDouble(id -> haversine(latitude, longitude,
+                    coordinates.get(id.intValue())[0], coordinates.get(id.intValue())[1])));
+            List<Long> actual = index.nearest(latitude, longitude, 5, id -> id % 2 == 0).stream()
+                    .map(GeoIndex.Neighbor::getId).toList();
+
+            assertEquals(expected.stream().filter(id -> id % 2 == 0).limit(5).toList(), actual);
+        }
+    }
+
+    @Test
+    void nearest_crossesAntimeridianAndReportsMeters() {
+        GeoIndex index = GeoIndex.build(List.of(
+                new GeoIndex.Point(1, 0, 179.9),
+                new GeoIndex.Point(2, 0, 170),
+                new GeoIndex.Point(3, 0, -179.9)));
+
+        List<GeoIndex.Neighbor> nearest = index.nearest(0, -179.95, 2, id -> true);
+
+        assertEquals(List.of(3L, 1L), nearest.stream().map(GeoIndex.Neighbor::getId).toList());
+        assertEquals(5_560, nearest.get(0).getDistanceMeters(), 10);
+    }
+
+    @Test
+    void nearest_onEmptyIndex() {
+        assertTrue(GeoIndex.EMPTY.nearest(53.9, 27.56, 3, id -> true).isEmpty());
+    }
+
+    private static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.pow(Math.sin(dLat / 2), 2) + Math.cos(Math.toRadians(lat1))
+                * Math.cos(Math.toRadians(lat2)) * Math.pow(Math.sin(dLon / 2), 2);
+        return 2 * Math.asin(Math.sqrt(a));
+    }
+}
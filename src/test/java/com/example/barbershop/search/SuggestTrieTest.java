@@ -0,0 +1,90 @@
+package com.example.barbershop.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestTrieTest {
+
+    private SuggestTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new SuggestTrie(3);
+        trie.put(1L, "Haircut", 10);
+        trie.put(2L, "Hair coloring", 30);
+        trie.put(3L, "Kids haircut", 5);
+        trie.put(4L, "Beard trim", 20);
+    }
+
+    @Test
+    void suggest_ranksByScore() {
+        assertEquals(List.of(2L, 1L, 3L), ids(trie.suggest("hair")));
+        assertEquals(List.of(1L, 3L), ids(trie.suggest("Haircut")));
+        assertEquals(List.of(2L), ids(trie.suggest("hair c")));
+    }
+
+    @Test
+    void suggest_matchesLaterWords() {
+        assertEquals(List.of(4L), ids(trie.suggest("tri")));
+        assertEquals(List.of(3L), ids(trie.suggest("kids  HAIR")));
+        assertTrue(trie.suggest("rim").isEmpty());
+    }
+
+    @Test
+    void suggest_emptyPrefixReturnsMostPopular() {
+        assertEquals(List.of(2L, 4L, 1L), ids(trie.suggest("")));
+        assertEquals(List.of(2L, 4L, 1L), ids(trie.suggest(null)));
+    }
+
+    @Test
+    void put_replacesLabelAndScore() {
+        trie.put(2L, "Coloring", 30);
+        trie.put(3L, "Kids haircut", 50);
+
+        assertEquals(List.of(3L, 1L), ids(trie.suggest("hair")));
+        assertEquals(List.of(2L), ids(trie.suggest("col")));
+        assertEquals(4, trie.size());
+    }
+
+    @Test
+    void put_replacesLabelWithRepeatedWords() {
+        trie.put(5L, "Cut Cut", 0);
+        trie.put(5L, "Cut Cut", 50);
+
+        assertEquals(List.of(5L), ids(trie.suggest("cut")));
+        assertEquals(List.of(5L), ids(trie.suggest("cut c")));
+        assertEquals(List.of(5L, 2L, 4L), ids(trie.suggest("")));
+
+        trie.put(5L, "Fade", 1);
+
+        assertTrue(trie.suggest("cut").isEmpty());
+        assertEquals(List.of(5L), ids(trie.suggest("fa")));
+        assertEquals(List.of(2L, 4L, 1L), ids(trie.suggest("")));
+    }
+
+    @Test
+    void remove_prunesPathsAndKeepsSiblings() {
+        trie.remove(1L);
+        trie.remove(3L);
+
+        assertEquals(List.of(2L), ids(trie.suggest("hair")));
+        assertTrue(trie.suggest("haircut").isEmpty());
+        assertEquals(List.of(2L), ids(trie.suggest("hair coloring")));
+        assertNull(trie.scoreOf(1L));
+    }
+
+    @Test
+    void keys_startAtEveryWord() {
+        assertEquals(Set.of("men's short haircut", "short haircut", "haircut"),
+                SuggestTrie.keys("  Men's   short Haircut "));
+    }
+
+    private static List<Long> ids(List<SuggestTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(SuggestTrie.Suggestion::getId).toList();
+    }
+}
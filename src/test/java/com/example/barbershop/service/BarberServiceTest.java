@@ -8,13 +8,20 @@ import com.example.barbershop.model.Offering;
 import com.example.barbershop.repository.BarberRepository;
 import com.example.barbershop.repository.LocationRepository;
 import com.example.barbershop.repository.OfferingRepository;
+import com.example.barbershop.repository.OrderRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Time;
+import java.time.LocalTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,9 +40,15 @@ class BarberServiceTest {
     @Mock
     private LocationRepository locationRepository;
 
+    @Mock
+    private OrderRepository orderRepository;
+
     @Mock
     private Cache cache;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BarberService barberService;
 
@@ -222,4 +235,51 @@ class BarberServiceTest {
         assertThrows(RuntimeException.class, () -> barberService.assignLocationToBarber(1L, 1L));
     }
 
-}
\ No newline at end of file
+    @Test
+    void getAvailability_cachesBookedSlotsUntilEvicted() {
+        barber.setAvailableDays(EnumSet.allOf(Barber.DayOfWeek.class));
+        barber.setStartTime(Time.valueOf(LocalTime.of(9, 0)));
+        barber.setEndTime(Time.valueOf(LocalTime.of(18, 0)));
+        when(barberRepository.findById(1L)).thenReturn(Optional.of(barber));
+        when(orderRepository.findByBarberIdAndDateRange(eq(1L), any(), any()))
+                .thenReturn(List.of());
+        BarberService service = new BarberService(barberRepository, offeringRepository,
+                locationRepository, orderRepository, new Cache(), eventPublisher);
+
+        service.getAvailability(1L);
+        service.getAvailability(1L);
+        verify(orderRepository, times(1)).findByBarberIdAndDateRange(eq(1L), any(), any());
+
+        service.evictBookedSlots(1L);
+        service.getAvailability(1L);
+        verify(orderRepository, times(2)).findByBarberIdAndDateRange(eq(1L), any(), any());
+    }
+
+    @Test
+    void evictBookedSlots_evictsAgainAfterCommit() {
+        barber.setAvailableDays(EnumSet.allOf(Barber.DayOfWeek.class));
+        barber.setStartTime(Time.valueOf(LocalTime.of(9, 0)));
+        barber.setEndTime(Time.valueOf(LocalTime.of(18, 0)));
+        when(barberRepository.findById(1L)).thenReturn(Optional.of(barber));
+        when(orderRepository.findByBarberIdAndDateRange(eq(1L), any(), any()))
+                .thenReturn(List.of());
+        BarberService service = new BarberService(barberRepository, offeringRepository,
+                locationRepository, orderRepository, new Cache(), eventPublisher);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.evictBookedSlots(1L);
+            // A concurrent read before the commit caches the slots as they were.
+            service.getAvailability(1L);
+            service.getAvailability(1L);
+            verify(orderRepository, times(1)).findByBarberIdAndDateRange(eq(1L), any(), any());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        service.getAvailability(1L);
+        verify(orderRepository, times(2)).findByBarberIdAndDateRange(eq(1L), any(), any());
+    }
+}
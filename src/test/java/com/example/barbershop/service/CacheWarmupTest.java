@@ -0,0 +1,115 @@
+package com.example.barbershop.service;
+
+import com.example.barbershop.catalog.CatalogService;
+import com.example.barbershop.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmupTest {
+
+    @Mock
+    private BarberService barberService;
+
+    @Mock
+    private OfferingService offeringService;
+
+    @Mock
+    private LocationService locationService;
+
+    @Mock
+    private CatalogService catalogService;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Test
+    void warmUp_loadsEveryTypeAndBusiestBarbersFirst() {
+        when(orderRepository.countByBarberBetween(any(), any()))
+                .thenReturn(List.of(count(1L, 3), count(2L, 9), count(3L, 5)));
+
+        List<String> finished = warmup(Duration.ofSeconds(10), 2).warmUp();
+
+        assertEquals(List.of("barbers", "offerings", "locations", "catalog", "availability"),
+                finished);
+        verify(barberService).findAll();
+        verify(offeringService).findAll();
+        verify(locationService).findAll();
+        verify(catalogService).refresh();
+        InOrder order = inOrder(barberService);
+        order.verify(barberService).getAvailability(2L);
+        order.verify(barberService).getAvailability(3L);
+        verify(barberService, never()).getAvailability(1L);
+    }
+
+    @Test
+    void warmUp_reportsFailedTask() {
+        when(offeringService.findAll()).thenThrow(new IllegalStateException("down"));
+
+        List<String> finished = warmup(Duration.ofSeconds(10), 10).warmUp();
+
+        assertFalse(finished.contains("offerings"));
+        assertTrue(finished.contains("barbers"));
+    }
+
+    @Test
+    void warmUp_stopsAvailabilityWhenBudgetRunsOut() throws InterruptedException {
+        List<OrderRepository.IdCount> counts = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            counts.add(count(id, 100 - id));
+        }
+        when(orderRepository.countByBarberBetween(any(), any())).thenReturn(counts);
+        when(barberService.getAvailability(anyLong())).thenAnswer(invocation -> {
+            Thread.sleep(20);
+            return List.of();
+        });
+
+        long started = System.nanoTime();
+        List<String> finished = warmup(Duration.ofMillis(200), 100).warmUp();
+
+        assertTrue(System.nanoTime() - started < Duration.ofSeconds(1).toNanos());
+        assertFalse(finished.contains("availability"));
+        Thread.sleep(100);
+        verify(barberService, atMost(20)).getAvailability(anyLong());
+    }
+
+    @Test
+    void run_doesNothingWhenDisabled() {
+        new CacheWarmup(barberService, offeringService, locationService, catalogService,
+                orderRepository, new SimpleAsyncTaskExecutor(), false, Duration.ofSeconds(1), 10)
+                .run(null);
+
+        verifyNoInteractions(barberService, offeringService, locationService, catalogService,
+                orderRepository);
+    }
+
+    private CacheWarmup warmup(Duration budget, int availabilityLimit) {
+        return new CacheWarmup(barberService, offeringService, locationService, catalogService,
+                orderRepository, new SimpleAsyncTaskExecutor(), true, budget, availabilityLimit);
+    }
+
+    private static OrderRepository.IdCount count(long id, long count) {
+        return new OrderRepository.IdCount() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
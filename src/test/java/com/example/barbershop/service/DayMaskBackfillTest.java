@@ -0,0 +1,99 @@
+package com.example.barbershop.service;
+
+import com.example.barbershop.model.Barber;
+import com.example.barbershop.model.DayMask;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DayMaskBackfillTest {
+
+    private static final JdbcTemplate JDBC = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:day-mask-backfill;DB_CLOSE_DELAY=-1", "sa", ""));
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        JDBC.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void run_fillsUnsetMasksFromLegacyColumn() throws Exception {
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        JDBC.execute("CREATE TABLE barber (barber_id BIGINT PRIMARY KEY, "
+                + "available_days VARBINARY(255), available_days_mask INT NOT NULL)");
+        insert(1, serialize(List.of(Barber.DayOfWeek.MONDAY, Barber.DayOfWeek.FRIDAY)), 0);
+        insert(2, serialize(List.of(Barber.DayOfWeek.MONDAY)),
+                DayMask.bit(Barber.DayOfWeek.SUNDAY));
+        insert(3, new byte[] {1, 2, 3}, 0);
+        insert(4, null, 0);
+
+        new DayMaskBackfill(JDBC, entityManagerFactory).run(null);
+
+        assertEquals(DayMask.of(EnumSet.of(Barber.DayOfWeek.MONDAY, Barber.DayOfWeek.FRIDAY)),
+                mask(1));
+        assertEquals(DayMask.bit(Barber.DayOfWeek.SUNDAY), mask(2));
+        assertEquals(0, mask(3));
+        assertEquals(0, mask(4));
+        verify(cache).evict(Barber.class);
+    }
+
+    @Test
+    void run_withoutLegacyColumn_leavesMasksAlone() {
+        JDBC.execute("CREATE TABLE barber (barber_id BIGINT PRIMARY KEY, "
+                + "available_days_mask INT NOT NULL)");
+        JDBC.update("INSERT INTO barber VALUES (1, 0)");
+
+        assertDoesNotThrow(() -> new DayMaskBackfill(JDBC, entityManagerFactory).run(null));
+
+        assertEquals(0, mask(1));
+        verifyNoInteractions(entityManagerFactory);
+    }
+
+    @Test
+    void decodeLegacyDays_rejectsOtherClasses() throws Exception {
+        assertEquals(DayMask.ALL_DAYS, DayMaskBackfill.decodeLegacyDays(
+                serialize(new ArrayList<>(EnumSet.allOf(Barber.DayOfWeek.class)))));
+        assertEquals(-1, DayMaskBackfill.decodeLegacyDays(serialize(List.of("MONDAY"))));
+        assertEquals(-1, DayMaskBackfill.decodeLegacyDays(serialize(new StringBuilder())));
+    }
+
+    private static void insert(long barberId, byte[] legacyDays, int mask) {
+        JDBC.update("INSERT INTO barber VALUES (?, ?, ?)", barberId, legacyDays, mask);
+    }
+
+    private static Integer mask(long barberId) {
+        return JDBC.queryForObject("SELECT available_days_mask FROM barber WHERE barber_id = ?",
+                Integer.class, barberId);
+    }
+
+    private static byte[] serialize(Object value) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            // Hibernate writes collections as an ArrayList copy
+            out.writeObject(value instanceof List<?> list ? new ArrayList<>(list) : value);
+        }
+        return bytes.toByteArray();
+    }
+}
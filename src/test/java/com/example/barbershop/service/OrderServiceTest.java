@@ -0,0 +1,109 @@
+package com.example.barbershop.service;
+
+import com.example.barbershop.cache.Cache;
+import com.example.barbershop.catalog.Catalog;
+import com.example.barbershop.catalog.CatalogService;
+import com.example.barbershop.dto.OrderDto;
+import com.example.barbershop.exception.ValidationException;
+import com.example.barbershop.model.Barber;
+import com.example.barbershop.model.Location;
+import com.example.barbershop.model.Offering;
+import com.example.barbershop.repository.BarberRepository;
+import com.example.barbershop.repository.LocationRepository;
+import com.example.barbershop.repository.OfferingRepository;
+import com.example.barbershop.repository.OrderRepository;
+import com.example.barbershop.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private BarberRepository barberRepository;
+
+    @Mock
+    private OfferingRepository offeringRepository;
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private CatalogService catalogService;
+
+    @Mock
+    private BarberService barberService;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    private OrderDto dto;
+
+    @BeforeEach
+    void setUp() {
+        Location location = new Location();
+        location.setLocationId(3L);
+        Offering offering = new Offering();
+        offering.setOfferingId(2L);
+        Barber barber = new Barber();
+        barber.setBarberId(1L);
+        barber.setLocation(location);
+        barber.setAvailableDays(EnumSet.allOf(Barber.DayOfWeek.class));
+        barber.setStartTime(Time.valueOf(LocalTime.of(9, 0)));
+        barber.setEndTime(Time.valueOf(LocalTime.of(18, 0)));
+        barber.setOfferings(Set.of(offering));
+        when(catalogService.getCatalog()).thenReturn(
+                Catalog.build(List.of(barber), List.of(offering), List.of(location)));
+
+        dto = new OrderDto();
+        dto.setOrderDate(LocalDate.now().plusDays(1).atTime(10, 0));
+        dto.setBarberId(1L);
+        dto.setOfferingId(2L);
+        dto.setLocationId(3L);
+        dto.setUserId(4L);
+    }
+
+    @Test
+    void save_unknownUser() {
+        when(userRepository.existsById(4L)).thenReturn(false);
+
+        ValidationException error = assertThrows(ValidationException.class,
+                () -> orderService.save(dto));
+        assertEquals("User not found", error.getMessage());
+        verify(orderRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void save_otherIntegrityViolationIsNotReportedAsUnknownUser() {
+        when(userRepository.existsById(4L)).thenReturn(true);
+        when(orderRepository.saveAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("fk_orders_barber"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> orderService.save(dto));
+        verify(barberService, never()).evictBookedSlots(any());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.barbershop.service;
+
+import com.example.barbershop.model.VisitStat;
+import com.example.barbershop.repository.VisitStatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VisitCounterPersisterTest {
+
+    @Mock
+    private VisitStatRepository visitStatRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private VisitCounter visitCounter;
+    private VisitCounterPersister persister;
+
+    @BeforeEach
+    void setUp() {
+        visitCounter = new VisitCounter(100, 4, 31, List.of(), Clock.systemUTC());
+        persister = new VisitCounterPersister(visitCounter, visitStatRepository, jdbcTemplate, 2);
+    }
+
+    @Test
+    void load_restoresTotalsWithoutRewritingThem() {
+        VisitStat stat = new VisitStat();
+        stat.setUrl("/barbers");
+        stat.setTotal(40);
+        when(visitStatRepository.findAll()).thenReturn(List.of(stat));
+
+        persister.load();
+        persister.flush();
+
+        assertEquals(40, visitCounter.getVisitCount("/barbers"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_writesOnlyGrowthInBatches() {
+        visitCounter.incrementVisit("/barbers");
+        visitCounter.incrementVisit("/barbers");
+        visitCounter.incrementVisit("/locations");
+        visitCounter.incrementVisit("/barbers/1");
+
+        persister.flush();
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+
+        clearInvocations(jdbcTemplate);
+        visitCounter.incrementVisit("/barbers");
+        persister.flush();
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertEquals(1, rows.getValue().size());
+        assertArrayEquals(new Object[] {"/barbers", 1L}, rows.getValue().get(0));
+    }
+
+    @Test
+    void flush_retriesAfterFailure() {
+        visitCounter.incrementVisit("/barbers");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[] {1});
+
+        persister.flush();
+        persister.flush();
+        persister.flush();
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    }
+}
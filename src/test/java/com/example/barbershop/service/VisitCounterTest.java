@@ -0,0 +1,148 @@
+package com.example.barbershop.service;
+
+import com.example.barbershop.dto.VisitStatsDto;
+import com.example.barbershop.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VisitCounterTest {
+
+    private static final Instant START = Instant.parse("2025-04-01T10:00:00Z");
+
+    @Test
+    void normalize_replacesIdSegments() {
+        assertEquals("/barbers/{id}", VisitCounter.normalize("/barbers/42"));
+        assertEquals("/barbers/{id}/availability",
+                VisitCounter.normalize("/barbers/42/availability"));
+        assertEquals("/locations", VisitCounter.normalize("/locations/"));
+        assertEquals("/locations/{id}",
+                VisitCounter.normalize("/locations/123e4567-e89b-12d3-a456-426614174000"));
+        assertEquals("/barbers/search", VisitCounter.normalize("/barbers/search"));
+    }
+
+    @Test
+    void incrementVisit_countsByTemplate() {
+        VisitCounter counter = counter(10, 4, Clock.fixed(START, ZoneOffset.UTC));
+        counter.incrementVisit("/barbers/1");
+        counter.incrementVisit("/barbers/2");
+        counter.incrementVisit("/barbers");
+
+        assertEquals(2, counter.getVisitCount("/barbers/{id}"));
+        assertEquals(2, counter.getVisitCount("/barbers/7"));
+        assertEquals(1, counter.getVisitCount("/barbers"));
+        assertEquals(0, counter.getVisitCount("/locations"));
+    }
+
+    @Test
+    void getVisitStats_slidingWindows() {
+        MutableClock clock = new MutableClock(START);
+        VisitCounter counter = counter(10, 4, clock);
+        counter.incrementVisit("/barbers");
+        clock.advance(Duration.ofMinutes(30));
+        counter.incrementVisit("/barbers");
+        clock.advance(Duration.ofMinutes(2));
+        counter.incrementVisit("/barbers");
+
+        VisitStatsDto stats = counter.getVisitStats("/barbers");
+        assertEquals(3, stats.getTotal());
+        assertEquals(2, stats.getLastFiveMinutes());
+        assertEquals(3, stats.getLastHour());
+        assertEquals(3, stats.getLastDay());
+
+        clock.advance(Duration.ofHours(23).plusMinutes(59));
+        stats = counter.getVisitStats("/barbers");
+        assertEquals(3, stats.getTotal());
+        assertEquals(0, stats.getLastHour());
+        assertEquals(1, stats.getLastDay());
+    }
+
+    @Test
+    void incrementVisit_boundsTrackedUrls() {
+        VisitCounter counter = counter(2, 2, Clock.fixed(START, ZoneOffset.UTC));
+        counter.incrementVisit("/barbers");
+        counter.incrementVisit("/locations");
+        for (int i = 0; i < 50; i++) {
+            counter.incrementVisit("/barbers/hot");
+            counter.incrementVisit("/barbers/cold-" + i);
+        }
+
+        assertEquals(100, counter.getOverflowCount());
+        assertTrue(counter.getVisitCount("/barbers/hot") >= 50);
+        List<VisitStatsDto> top = counter.getTopVisited(1);
+        assertEquals("/barbers/hot", top.get(0).getUrl());
+        assertTrue(top.get(0).isEstimated());
+    }
+
+    @Test
+    void getUniqueVisitors_mergesDaysAndTracksLocationsById() {
+        MutableClock clock = new MutableClock(START);
+        VisitCounter counter = counter(10, 4, clock);
+        for (int i = 0; i < 1000; i++) {
+            counter.recordVisit("/locations/1", "ip:10.0.0." + i);
+            counter.recordVisit("/locations/1", "ip:10.0.0." + i);
+        }
+        clock.advance(Duration.ofDays(1));
+        for (int i = 500; i < 1500; i++) {
+            counter.recordVisit("/locations/2", "ip:10.0.0." + i);
+        }
+
+        LocalDate day1 = LocalDate.of(2025, 4, 1);
+        LocalDate day2 = day1.plusDays(1);
+        assertEquals(1000, counter.getUniqueVisitors("/locations/1", day1, day1)
+                .getUniqueVisitors(), 50);
+        assertEquals(0, counter.getUniqueVisitors("/locations/1", day2, day2)
+                .getUniqueVisitors());
+        assertEquals(1500, counter.getUniqueVisitors("/locations/{id}", day1, day2)
+                .getUniqueVisitors(), 75);
+        assertEquals(3000, counter.getVisitCount("/locations/{id}"));
+    }
+
+    @Test
+    void getUniqueVisitors_rejectsInvalidRange() {
+        VisitCounter counter = counter(10, 4, Clock.fixed(START, ZoneOffset.UTC));
+        LocalDate day = LocalDate.of(2025, 4, 1);
+        assertThrows(ValidationException.class,
+                () -> counter.getUniqueVisitors("/barbers", day, day.minusDays(1)));
+        assertThrows(ValidationException.class,
+                () -> counter.getUniqueVisitors("/barbers", day, day.plusDays(31)));
+    }
+
+    private static VisitCounter counter(int maxUrls, int heavyHitters, Clock clock) {
+        return new VisitCounter(maxUrls, heavyHitters, 31, List.of("/locations"), clock);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}